@@ -0,0 +1,126 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*A HashTable that many threads can share
+ the buckets are split into stripes and every stripe has its own lock,
+ so writers to buckets of different stripes never wait for each other
+ a published PairNode is never changed again: insert() puts a new node in
+ front of the chain and remove() copies the nodes before the removed one,
+ so get() can walk a chain without taking any lock*/
+public class ConcurrentHashTable {
+
+    // ht holds the head of every chain, set() and get() on it are volatile
+    private final AtomicReferenceArray<PairNode> ht;
+
+    // locks[i] guards every bucket idx with idx % locks.length == i
+    private final Object[] locks;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    // Constructor that initializes the HashTable array with one lock per 16 buckets
+    public ConcurrentHashTable(int size) {
+        this(size, Math.max(1, size / 16));
+    }
+
+    public ConcurrentHashTable(int size, int stripes) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        }
+        this.ht = new AtomicReferenceArray<>(size);
+        this.locks = new Object[Math.min(stripes, size)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    // This method is called to insert each pair from the 2D Array
+    public void createFromArray(Object[][] arr) {
+        for (Object[] x : arr)
+            this.insert(x);
+    }
+
+    // Inserts the pair in front of the chain of its hashed index (Forward Chaining)
+    public void insert(Object[] keyValuePair) {
+        Integer key = (Integer) keyValuePair[0];
+        String value = (String) keyValuePair[1];
+
+        int idx = hashFunction(key);
+        synchronized (locks[idx % locks.length]) {
+            PairNode pair = new PairNode(key, value);
+            pair.next = ht.get(idx);
+            ht.set(idx, pair);
+        }
+        size.incrementAndGet();
+    }
+
+    // returns the value of the first pair with this key, or null if there is none
+    // no lock is taken, the chain read is the one published by the last write
+    public String get(Integer key) {
+        for (PairNode pNode = ht.get(hashFunction(key)); pNode != null; pNode = pNode.next) {
+            if (pNode.key.equals(key)) {
+                return pNode.value;
+            }
+        }
+        return null;
+    }
+
+    // Removes the first pair with the given key if it exists
+    // the nodes in front of it are copied so readers never see a changed next
+    public void remove(Integer key) {
+        int idx = hashFunction(key);
+        synchronized (locks[idx % locks.length]) {
+            PairNode head = ht.get(idx);
+            PairNode target = head;
+            while (target != null && !target.key.equals(key)) {
+                target = target.next;
+            }
+            if (target == null) {
+                return; // Key not found
+            }
+            PairNode newHead = target.next;
+            PairNode tail = null;
+            for (PairNode pNode = head; pNode != target; pNode = pNode.next) {
+                PairNode copy = new PairNode(pNode.key, pNode.value);
+                copy.next = target.next;
+                if (tail == null) {
+                    newHead = copy;
+                } else {
+                    tail.next = copy;
+                }
+                tail = copy;
+            }
+            ht.set(idx, newHead);
+        }
+        size.decrementAndGet();
+    }
+
+    // number of pairs stored in the HashTable
+    public int size() {
+        return size.get();
+    }
+
+    // This method basically prints the HashTable
+    public void printHashTable() {
+        for (int i = 0; i < ht.length(); i++) {
+            System.out.print(i + ": ");
+            PairNode pNode = ht.get(i);
+            if (pNode == null)
+                System.out.println("null");
+            while (pNode != null) {
+                System.out.print("(" + pNode.key + ", '" + pNode.value + "') --> ");
+                if (pNode.next == null)
+                    System.out.println("null");
+                pNode = pNode.next;
+            }
+        }
+    }
+
+    // same hash as HashTable, (key + 3) % length
+    private int hashFunction(Integer key) {
+        return Math.floorMod(key + 3, ht.length());
+    }
+
+}
@@ -0,0 +1,80 @@
+//Stress tester for ConcurrentHashTable
+//every writer thread inserts its own range of keys while readers keep calling get()
+//then the table is checked for lost or extra pairs and the throughput is printed
+public class ConcurrentHashTableTester {
+
+    static final int PAIRS = 2_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("===================Correctness===================");
+        ConcurrentHashTable small = new ConcurrentHashTable(6);
+        small.createFromArray(new Object[][] {
+            {34, "Abid"}, {4, "Rafi"}, {6, "Karim"}, {3, "Chitra"}, {22, "Nilu"}
+        });
+        small.remove(4);
+        System.out.println("::::Excepted Output::::\n"
+                + "0: (3, 'Chitra') --> null\n"
+                + "1: (22, 'Nilu') --> (34, 'Abid') --> null\n"
+                + "2: null\n"
+                + "3: (6, 'Karim') --> null\n"
+                + "4: null\n"
+                + "5: null");
+        System.out.println(":::  Your Output  :::");
+        small.printHashTable();
+
+        System.out.println("===================Stress===================");
+        for (int writers : new int[] {1, 2, 4, 8}) {
+            // warm up once so the first run is not measured in the interpreter
+            run(writers);
+            long nanos = run(writers);
+            System.out.printf("%d writer(s): %.1f M ops/s%n", writers, PAIRS * 1.5 / (nanos / 1e3));
+        }
+        System.out.println("===================TheEnd===================");
+    }
+
+    // returns the time the writers took, throws if any pair went missing
+    static long run(int writers) throws InterruptedException {
+        ConcurrentHashTable table = new ConcurrentHashTable(1 << 20, 1 << 12);
+        Thread[] threads = new Thread[writers];
+        int perThread = PAIRS / writers;
+        for (int t = 0; t < writers; t++) {
+            int from = t * perThread;
+            threads[t] = new Thread(() -> {
+                Object[] pair = new Object[2];
+                for (int k = from; k < from + perThread; k++) {
+                    pair[0] = k;
+                    pair[1] = "v";
+                    table.insert(pair);
+                }
+                // every thread removes the odd keys of its range again
+                for (int k = from + 1; k < from + perThread; k += 2) {
+                    table.remove(k);
+                }
+            });
+        }
+        Thread reader = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                table.get(PAIRS / 2);
+            }
+        });
+        reader.start();
+        long start = System.nanoTime();
+        for (Thread t : threads) t.start();
+        for (Thread t : threads) t.join();
+        long nanos = System.nanoTime() - start;
+        reader.interrupt();
+        reader.join();
+
+        int expected = writers * perThread / 2;
+        if (table.size() != expected) {
+            throw new AssertionError("size " + table.size() + ", expected " + expected);
+        }
+        for (int k = 0; k < writers * perThread; k++) {
+            boolean present = table.get(k) != null;
+            if (present != (k % 2 == 0)) {
+                throw new AssertionError("key " + k + (present ? " was not removed" : " was lost"));
+            }
+        }
+        return nanos;
+    }
+}
@@ -9,12 +9,41 @@ public class HashTable {
     // It is an intance variable
     private PairNode[] ht;
 
+    // oldHt is the previous array while a resize is in progress, null otherwise
+    // buckets below migrateIdx have already been moved into ht
+    private PairNode[] oldHt;
+    private int migrateIdx;
+
+    // number of pairs (in ht and oldHt together), put() counts up and remove()
+    // counts down, insert() of the task does not count, so fill with put()
+    private int size;
+
+    // ht doubles once size / ht.length goes above this, 0 keeps the size fixed
+    private double maxLoadFactor;
+
+    // how many old buckets every put()/remove() moves during a resize
+    private static final int MIGRATE_STEP = 4;
+
     // Constructor that initializes the HashTable array
     // DO NOT change and DO NOT SUBMIT this method
     public HashTable(int size) {
         this.ht = new PairNode[size];
     }
 
+    // Constructor for a growing HashTable
+    // once the load factor goes above maxLoadFactor the array is doubled and
+    // the old buckets are moved over a few at a time by later put()/remove()
+    public HashTable(int size, double maxLoadFactor) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (maxLoadFactor <= 0) {
+            throw new IllegalArgumentException("maxLoadFactor must be positive");
+        }
+        this.ht = new PairNode[size];
+        this.maxLoadFactor = maxLoadFactor;
+    }
+
     // This method is called to insert each pair from the 2D Array
     // DO NOT change and DO NOT SUBMIT this method
     public void createFromArray(Object[][] arr) {
@@ -42,6 +71,97 @@ public class HashTable {
         }
     }
 
+    // Inserts the pair into a growing HashTable, in front of its chain like insert()
+    // insert() is the fixed size insert of the task, it neither counts the pair
+    // nor grows the array, so a table made with HashTable(size, maxLoadFactor)
+    // should be filled with put()
+    public void put(Integer key, String value) {
+        migrateBuckets();
+        int idx = hashFunction(key);
+        PairNode pair = new PairNode(key, value);
+        pair.next = ht[idx];
+        ht[idx] = pair;
+        size++;
+        if (maxLoadFactor > 0 && oldHt == null && loadFactor() > maxLoadFactor) {
+            startResize();
+        }
+    }
+
+    // number of pairs stored with put() and not removed yet
+    public int size() {
+        return size;
+    }
+
+    // current number of pairs per bucket of the (newest) HashTable array
+    public double loadFactor() {
+        return (double) size / ht.length;
+    }
+
+    // Starts a resize: the current array becomes oldHt and ht is doubled
+    // nothing is moved here, migrateBuckets() does that bit by bit
+    private void startResize() {
+        oldHt = ht;
+        ht = new PairNode[oldHt.length * 2];
+        migrateIdx = 0;
+    }
+
+    // Moves the next MIGRATE_STEP buckets of oldHt into ht
+    // the array doubled, so the pairs of oldHt[i] go to ht[i] or ht[i + oldHt.length];
+    // they keep their order and go behind the pairs put() added since the resize
+    // started, which are newer, so every chain stays newest first
+    private void migrateBuckets() {
+        if (oldHt == null) {
+            return;
+        }
+        int end = Math.min(migrateIdx + MIGRATE_STEP, oldHt.length);
+        for (; migrateIdx < end; migrateIdx++) {
+            PairNode lowHead = null, lowTail = null, highHead = null, highTail = null;
+            PairNode pNode = oldHt[migrateIdx];
+            oldHt[migrateIdx] = null;
+            while (pNode != null) {
+                PairNode next = pNode.next;
+                pNode.next = null;
+                if (hashFunction(pNode.key) == migrateIdx) {
+                    if (lowTail == null) lowHead = pNode; else lowTail.next = pNode;
+                    lowTail = pNode;
+                } else {
+                    if (highTail == null) highHead = pNode; else highTail.next = pNode;
+                    highTail = pNode;
+                }
+                pNode = next;
+            }
+            appendChain(migrateIdx, lowHead);
+            appendChain(migrateIdx + oldHt.length, highHead);
+        }
+        if (migrateIdx == oldHt.length) {
+            oldHt = null;
+        }
+    }
+
+    // Links chain behind the last pair of ht[idx]
+    private void appendChain(int idx, PairNode chain) {
+        if (chain == null) {
+            return;
+        }
+        if (ht[idx] == null) {
+            ht[idx] = chain;
+            return;
+        }
+        PairNode tail = ht[idx];
+        while (tail.next != null) {
+            tail = tail.next;
+        }
+        tail.next = chain;
+    }
+
+    // Moves every bucket that is still left in oldHt
+    // printHashTable() only shows ht, so call this first while a resize may be running
+    public void finishResize() {
+        while (oldHt != null) {
+            migrateBuckets();
+        }
+    }
+
     // This method basically prints the HashTable
     // DO NOT change and DO NOT SUBMIT this method
     public void printHashTable() {
@@ -105,33 +225,51 @@ remove(hashTable, key=9) returns the same given hashTable since 9 doesn’t exis
     
     private int hashFunction(Integer key) {
 
-        return (key + 3) % 6;
+        return hashFunction(key, ht.length);
+    }
+
+    // same hash as above for any array length, (key + 3) % 6 for the default table
+    private static int hashFunction(Integer key, int length) {
+        return Math.floorMod(key + 3, length);
     }
 
     // you need to COMPLETE this method and MUST SUBMIT IT
     // before writing remove you should complete hashFunction
     public void remove(Integer key) {
-        int idx = hashFunction(key);
-        
-        if (ht[idx] == null) {
-            return; // Key not found
+        migrateBuckets();
+        boolean removed = removeFrom(ht, hashFunction(key), key);
+        // during a resize the key may still sit in a bucket that is not moved yet
+        if (!removed && oldHt != null) {
+            removed = removeFrom(oldHt, hashFunction(key, oldHt.length), key);
+        }
+        if (removed) {
+            size--;
+        }
+    }
+
+    // removes the first pair with the given key from table[idx]
+    // returns true if a pair was removed
+    private static boolean removeFrom(PairNode[] table, int idx, Integer key) {
+        if (table[idx] == null) {
+            return false; // Key not found
         }
         
         // If the key is at the head of the linked list
-        if (ht[idx].key.equals(key)) {
-            ht[idx] = ht[idx].next;
-            return;
+        if (table[idx].key.equals(key)) {
+            table[idx] = table[idx].next;
+            return true;
         }
         
         // Traverse the linked list to find the key
-        PairNode current = ht[idx];
+        PairNode current = table[idx];
         while (current.next != null) {
             if (current.next.key.equals(key)) {
                 current.next = current.next.next;
-                return;
+                return true;
             }
             current = current.next;
         }
+        return false;
     }
 
 }
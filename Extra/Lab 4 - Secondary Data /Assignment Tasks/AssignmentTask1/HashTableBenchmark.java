@@ -0,0 +1,65 @@
+//Benchmarks HashTable.insert() and HashTable.remove() of the task, and put()/remove()
+//on the growing table
+//run: java HashTableBenchmark [maxSize] [results.json]
+//the task table is made with HashTable(n) so it has n buckets: with the 6 buckets of
+//the tester every chain holds n / 6 pairs and remove() is O(n) per call, so 10^7
+//removes would take hours and only measure the chain walk. insert() never grows the
+//array, which is why the growing table starting at 16 buckets is filled with put()
+public class HashTableBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        for (int n : Bench.sizes(args)) {
+            int[] keys = Bench.randomInts(n, 220);
+
+            bench.measure("HashTable.insert", n, n, size -> {
+                HashTable ht = new HashTable(size);
+                return () -> {
+                    Object[] pair = new Object[] {null, "v"};
+                    for (int k : keys) {
+                        pair[0] = k;
+                        ht.insert(pair);
+                    }
+                    return pair.length;
+                };
+            });
+
+            bench.measure("HashTable.remove", n, n, size -> {
+                HashTable ht = new HashTable(size);
+                Object[] pair = new Object[] {null, "v"};
+                for (int k : keys) {
+                    pair[0] = k;
+                    ht.insert(pair);
+                }
+                return () -> {
+                    for (int k : keys) ht.remove(k);
+                    return keys.length;
+                };
+            });
+
+            bench.measure("HashTable.put/growing", n, n, size -> {
+                HashTable ht = new HashTable(16, 0.75);
+                return () -> {
+                    for (int k : keys) {
+                        ht.put(k, "v");
+                    }
+                    return ht.size();
+                };
+            });
+
+            bench.measure("HashTable.remove/growing", n, n, size -> {
+                HashTable ht = new HashTable(16, 0.75);
+                for (int k : keys) {
+                    ht.put(k, "v");
+                }
+                // let a resize started by the last puts finish before timing
+                ht.finishResize();
+                return () -> {
+                    for (int k : keys) ht.remove(k);
+                    return ht.size();
+                };
+            });
+        }
+        bench.report(args);
+    }
+}
@@ -0,0 +1,151 @@
+/*Same methods as HashTable (createFromArray, insert, remove, printHashTable)
+ but the pairs are kept in parallel arrays instead of PairNode chains
+ keys[i] and values[i] together are one pair, used[i] tells if slot i is taken
+ collisions are resolved with Linear Probing, so a lookup walks neighbouring
+ slots of the same arrays instead of following next pointers around the heap*/
+public class OpenAddressingHashTable {
+
+    private int[] keys;
+    private String[] values;
+    private boolean[] used;
+
+    // number of pairs stored in the table
+    private int size;
+
+    // the arrays are doubled once more than half of the slots are used
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    // Constructor that initializes the arrays
+    // the length is rounded up to a power of two so that (hash & mask) picks a slot
+    public OpenAddressingHashTable(int size) {
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new int[capacity];
+        this.values = new String[capacity];
+        this.used = new boolean[capacity];
+    }
+
+    // This method is called to insert each pair from the 2D Array
+    public void createFromArray(Object[][] arr) {
+        for (Object[] x : arr)
+            this.insert(x);
+    }
+
+    // Inserts the pair into the first free slot starting from the hashed index
+    // if the key is already in the table its value is replaced
+    public void insert(Object[] keyValuePair) {
+        int key = (Integer) keyValuePair[0];
+        String value = (String) keyValuePair[1];
+
+        if (size + 1 > keys.length * MAX_LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int idx = hashFunction(key) & mask;
+        while (used[idx]) {
+            if (keys[idx] == key) {
+                values[idx] = value;
+                return;
+            }
+            idx = (idx + 1) & mask;
+        }
+        used[idx] = true;
+        keys[idx] = key;
+        values[idx] = value;
+        size++;
+    }
+
+    // returns the value stored for key, or null if there is no such key
+    public String get(Integer key) {
+        int idx = indexOf(key);
+        return idx == -1 ? null : values[idx];
+    }
+
+    // number of pairs stored in the table
+    public int size() {
+        return size;
+    }
+
+    // Removes the pair with the given key if it exists
+    // instead of leaving a "deleted" marker, the following pairs of the same
+    // probe run are shifted back so lookups can still stop at the first free slot
+    public void remove(Integer key) {
+        int idx = indexOf(key);
+        if (idx == -1) {
+            return; // Key not found
+        }
+        int mask = keys.length - 1;
+        int hole = idx;
+        int next = (hole + 1) & mask;
+        while (used[next]) {
+            int home = hashFunction(keys[next]) & mask;
+            // move keys[next] into the hole only if the hole lies on its probe path
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[hole] = false;
+        values[hole] = null;
+        size--;
+    }
+
+    // This method basically prints the table, one slot per line
+    public void printHashTable() {
+        for (int i = 0; i < keys.length; i++) {
+            System.out.print(i + ": ");
+            if (used[i])
+                System.out.println("(" + keys[i] + ", '" + values[i] + "')");
+            else
+                System.out.println("null");
+        }
+    }
+
+    // returns the slot holding key, or -1 if the key is not in the table
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int idx = hashFunction(key) & mask;
+        while (used[idx]) {
+            if (keys[idx] == key) {
+                return idx;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Copies every pair into arrays of the new capacity
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        String[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int idx = hashFunction(oldKeys[i]) & mask;
+                while (used[idx]) {
+                    idx = (idx + 1) & mask;
+                }
+                used[idx] = true;
+                keys[idx] = oldKeys[i];
+                values[idx] = oldValues[i];
+            }
+        }
+    }
+
+    // spreads the bits of the key so that nearby keys do not land in one run
+    private static int hashFunction(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
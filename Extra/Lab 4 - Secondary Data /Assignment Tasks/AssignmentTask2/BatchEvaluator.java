@@ -0,0 +1,101 @@
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+//Evaluates many expressions at once, e.g. every line of a formula file
+//each expression gets a value and an error code instead of printed output,
+//and large batches are split across the cores of a ForkJoinPool
+public class BatchEvaluator {
+
+    //error codes, errors[i] tells why values[i] is 0
+    public static final byte OK = 0;
+    public static final byte INVALID = 1;          // unbalanced brackets, malformed or null
+    public static final byte DIVIDE_BY_ZERO = 2;
+    public static final byte OVERFLOW = 3;
+
+    //batches smaller than this are evaluated on the calling thread
+    static final int PARALLEL_THRESHOLD = 8192;
+    //a fork/join task stops splitting below this many expressions
+    static final int LEAF_SIZE = 1024;
+
+    public static final class Results {
+        public final int[] values;
+        public final byte[] errors;
+
+        Results(int size) {
+            this.values = new int[size];
+            this.errors = new byte[size];
+        }
+
+        public int errorCount() {
+            int count = 0;
+            for (byte e : errors) if (e != OK) count++;
+            return count;
+        }
+    }
+
+    public static Results evaluateAll(List<String> expressions) {
+        return evaluateAll(expressions.toArray(new String[0]), ForkJoinPool.commonPool());
+    }
+
+    //e.g. evaluateAll(Files.lines(path)) for a formula file
+    public static Results evaluateAll(Stream<String> expressions) {
+        return evaluateAll(expressions.toArray(String[]::new), ForkJoinPool.commonPool());
+    }
+
+    public static Results evaluateAll(String[] expressions, ForkJoinPool pool) {
+        Results results = new Results(expressions.length);
+        if (expressions.length < PARALLEL_THRESHOLD) {
+            evaluateRange(expressions, results, 0, expressions.length);
+        } else {
+            pool.invoke(new RangeTask(expressions, results, 0, expressions.length));
+        }
+        return results;
+    }
+
+    private static void evaluateRange(String[] expressions, Results results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (expressions[i] == null) {
+                results.errors[i] = INVALID;
+                continue;
+            }
+            try {
+                results.values[i] = ExpressionEvaluator.evaluateExact(expressions[i]);
+            } catch (IllegalArgumentException e) {
+                results.errors[i] = INVALID;
+            } catch (ExpressionEvaluator.DivideByZeroException e) {
+                results.errors[i] = DIVIDE_BY_ZERO;
+            } catch (ArithmeticException e) {
+                results.errors[i] = OVERFLOW;
+            }
+        }
+    }
+
+    //Splits [from, to) in halves until it is at most LEAF_SIZE long
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] expressions;
+        private final Results results;
+        private final int from, to;
+
+        RangeTask(String[] expressions, Results results, int from, int to) {
+            this.expressions = expressions;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                evaluateRange(expressions, results, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(expressions, results, from, mid),
+                      new RangeTask(expressions, results, mid, to));
+        }
+    }
+}
@@ -0,0 +1,232 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+//An infix expression compiled once into a postfix program of int opcodes
+//the expression may use numbers, variables (letters, digits and '_', starting
+//with a letter or '_'), + - * / ^ and the brackets ( ) [ ] { }
+//evaluate() runs the program in one pass over an int[] operand stack, so there
+//is no string building, no tokenizing and no boxing left at evaluation time
+//the arithmetic is the same as evaluatePostfix(): int, with ^ done through Math.pow
+public class CompiledExpression {
+
+    //every instruction is two ints: the opcode and its argument
+    static final int CONST = 0, VAR = 1, ADD = 2, SUB = 3, MUL = 4, DIV = 5, POW = 6;
+
+    private static final int CACHE_LIMIT = 10_000;
+    private static final ConcurrentHashMap<String, CompiledExpression> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final int[] code;
+    private final String[] variables;
+    private final int maxDepth;
+
+    private CompiledExpression(String source, int[] code, String[] variables, int maxDepth) {
+        this.source = source;
+        this.code = code;
+        this.variables = variables;
+        this.maxDepth = maxDepth;
+    }
+
+    //Returns the compiled form of source, compiling it only the first time
+    //the cache is simply emptied when it reaches CACHE_LIMIT entries
+    public static CompiledExpression of(String source) {
+        CompiledExpression compiled = CACHE.get(source);
+        if (compiled == null) {
+            if (CACHE.size() >= CACHE_LIMIT) {
+                CACHE.clear();
+            }
+            compiled = CACHE.computeIfAbsent(source, CompiledExpression::compile);
+        }
+        return compiled;
+    }
+
+    //Compiles source with the shunting-yard algorithm straight into opcodes
+    //throws IllegalArgumentException("Invalid Expression") for unbalanced brackets
+    //or any other malformed input, and NumberFormatException for a number that
+    //does not fit in an int
+    public static CompiledExpression compile(String source) {
+        // every character adds at most one instruction or one pending operator
+        int[] code = new int[2 * source.length()];
+        int codeLen = 0;
+        char[] ops = new char[source.length()];
+        int opsTop = 0;
+        List<String> variables = new ArrayList<>();
+        int depth = 0, maxDepth = 0;
+        boolean expectOperand = true;
+
+        int i = 0;
+        while (i < source.length()) {
+            char ch = source.charAt(i);
+            if (ch == ' ') {
+                i++;
+                continue;
+            }
+            if (expectOperand && isDigit(ch)) {
+                int start = i;
+                while (i < source.length() && isDigit(source.charAt(i))) {
+                    i++;
+                }
+                code[codeLen++] = CONST;
+                code[codeLen++] = parseLiteral(source, start, i);
+                maxDepth = Math.max(maxDepth, ++depth);
+                expectOperand = false;
+                continue;
+            }
+            if (expectOperand && (Character.isLetter(ch) || ch == '_')) {
+                int start = i;
+                while (i < source.length()
+                        && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+                    i++;
+                }
+                String name = source.substring(start, i);
+                int slot = variables.indexOf(name);
+                if (slot == -1) {
+                    slot = variables.size();
+                    variables.add(name);
+                }
+                code[codeLen++] = VAR;
+                code[codeLen++] = slot;
+                maxDepth = Math.max(maxDepth, ++depth);
+                expectOperand = false;
+                continue;
+            }
+            if (expectOperand && (ch == '(' || ch == '[' || ch == '{')) {
+                ops[opsTop++] = ch;
+            } else if (!expectOperand && (ch == ')' || ch == ']' || ch == '}')) {
+                char open = (ch == ')') ? '(' : (ch == ']') ? '[' : '{';
+                while (opsTop > 0 && precedence(ops[opsTop - 1]) > 0) {
+                    code[codeLen++] = opcodeOf(ops[--opsTop]);
+                    code[codeLen++] = 0;
+                    depth--;
+                }
+                if (opsTop == 0 || ops[--opsTop] != open) {
+                    throw invalid();
+                }
+            } else if (!expectOperand && precedence(ch) > 0) {
+                while (opsTop > 0 && precedence(ops[opsTop - 1]) >= precedence(ch) && ch != '^') {
+                    code[codeLen++] = opcodeOf(ops[--opsTop]);
+                    code[codeLen++] = 0;
+                    depth--;
+                }
+                ops[opsTop++] = ch;
+                expectOperand = true;
+            } else {
+                throw invalid();
+            }
+            i++;
+        }
+        if (expectOperand) {
+            throw invalid();
+        }
+        while (opsTop > 0) {
+            char op = ops[--opsTop];
+            if (precedence(op) == 0) {
+                throw invalid(); // an opening bracket was never closed
+            }
+            code[codeLen++] = opcodeOf(op);
+            code[codeLen++] = 0;
+        }
+        return new CompiledExpression(source, Arrays.copyOf(code, codeLen),
+                variables.toArray(new String[0]), maxDepth);
+    }
+
+    //Evaluates an expression without variables
+    public int evaluate() {
+        return evaluate(new int[0]);
+    }
+
+    //Evaluates with values[k] as the value of variable k (see variables())
+    public int evaluate(int[] values) {
+        if (values.length < variables.length) {
+            throw new IllegalArgumentException("expected " + variables.length + " variable values");
+        }
+        int[] stack = new int[maxDepth];
+        int top = 0;
+        for (int pc = 0; pc < code.length; pc += 2) {
+            switch (code[pc]) {
+                case CONST: stack[top++] = code[pc + 1]; break;
+                case VAR:   stack[top++] = values[code[pc + 1]]; break;
+                case ADD:   top--; stack[top - 1] += stack[top]; break;
+                case SUB:   top--; stack[top - 1] -= stack[top]; break;
+                case MUL:   top--; stack[top - 1] *= stack[top]; break;
+                case DIV:   top--; stack[top - 1] /= stack[top]; break;
+                case POW:   top--; stack[top - 1] = (int) Math.pow(stack[top - 1], stack[top]); break;
+            }
+        }
+        return stack[0];
+    }
+
+    //names of the variables, in the order evaluate() expects their values
+    public String[] variables() {
+        return variables.clone();
+    }
+
+    //index of the named variable in the values array, or -1 if it is not used
+    public int slotOf(String name) {
+        for (int k = 0; k < variables.length; k++) {
+            if (variables[k].equals(name)) return k;
+        }
+        return -1;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    //the postfix form, in the same format infixToPostfix() prints
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int pc = 0; pc < code.length; pc += 2) {
+            if (sb.length() > 0) sb.append(' ');
+            switch (code[pc]) {
+                case CONST: sb.append(code[pc + 1]); break;
+                case VAR:   sb.append(variables[code[pc + 1]]); break;
+                default:    sb.append("+-*/^".charAt(code[pc] - ADD));
+            }
+        }
+        return sb.toString();
+    }
+
+    //only ASCII digits, Character.isDigit would also accept e.g. Arabic-Indic digits
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    //value of the digits source[start..end), a number that does not fit in an int
+    //throws NumberFormatException, the same as Integer.parseInt in evaluatePostfix()
+    private static int parseLiteral(String source, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            try {
+                value = Math.addExact(Math.multiplyExact(value, 10), source.charAt(i) - '0');
+            } catch (ArithmeticException e) {
+                throw new NumberFormatException("For input string: \"" + source.substring(start, end) + "\"");
+            }
+        }
+        return value;
+    }
+
+    private static int precedence(char op) {
+        if (op == '^') return 3;
+        if (op == '*' || op == '/') return 2;
+        if (op == '+' || op == '-') return 1;
+        return 0;
+    }
+
+    private static int opcodeOf(char op) {
+        switch (op) {
+            case '+': return ADD;
+            case '-': return SUB;
+            case '*': return MUL;
+            case '/': return DIV;
+            default:  return POW;
+        }
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Invalid Expression");
+    }
+}
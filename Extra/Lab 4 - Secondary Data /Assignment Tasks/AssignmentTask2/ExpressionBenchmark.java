@@ -0,0 +1,70 @@
+import java.util.Random;
+
+//Benchmarks evaluating one long generated expression (sizes are token counts):
+// - "ThreePass": isBalanced() + infixToPostfix() + evaluatePostfix(), as evalMathExpression() does
+// - "ExpressionEvaluator": the fused single pass evaluator
+// - "CompiledExpression.compile" and "CompiledExpression.evaluate" separately
+//run: java ExpressionBenchmark [maxTokens] [results.json]
+public class ExpressionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        int max = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        for (int tokens = 100_000; tokens <= max; tokens *= 10) {
+            String expr = generate(tokens, 220);
+            int expected = ExpressionEvaluator.evaluate(expr);
+            if (StackAndQueueAssgnTaskTester.evaluatePostfix(
+                    StackAndQueueAssgnTaskTester.infixToPostfix(expr)) != expected) {
+                throw new AssertionError("evaluators disagree");
+            }
+
+            bench.measure("ThreePass", tokens, tokens, size -> () -> {
+                if (!StackAndQueueAssgnTaskTester.isBalanced(expr)) return -1;
+                return StackAndQueueAssgnTaskTester.evaluatePostfix(
+                        StackAndQueueAssgnTaskTester.infixToPostfix(expr));
+            });
+            bench.measure("ExpressionEvaluator", tokens, tokens,
+                    size -> () -> ExpressionEvaluator.evaluate(expr));
+            bench.measure("CompiledExpression.compile", tokens, tokens,
+                    size -> () -> CompiledExpression.compile(expr).source().length());
+            CompiledExpression compiled = CompiledExpression.compile(expr);
+            bench.measure("CompiledExpression.evaluate", tokens, tokens,
+                    size -> () -> compiled.evaluate());
+        }
+        bench.report(args);
+    }
+
+    //Random expression of about the given number of tokens using + - * / and
+    //brackets, divisors are always a non-zero digit so it never divides by zero
+    static String generate(int tokens, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        int open = 0, count = 0;
+        while (count < tokens) {
+            if (random.nextInt(8) == 0) {
+                sb.append('(');
+                open++;
+                count++;
+            }
+            sb.append(1 + random.nextInt(99));
+            count++;
+            while (open > 0 && random.nextInt(6) == 0) {
+                sb.append(')');
+                open--;
+                count++;
+            }
+            if (count < tokens) {
+                char op = "+-*/".charAt(random.nextInt(4));
+                sb.append(' ').append(op).append(' ');
+                if (op == '/') {
+                    sb.append(1 + random.nextInt(9)).append(" + ");
+                    count += 2;
+                }
+                count++;
+            }
+        }
+        if (sb.charAt(sb.length() - 1) == ' ') sb.append(1);
+        while (open-- > 0) sb.append(')');
+        return sb.toString();
+    }
+}
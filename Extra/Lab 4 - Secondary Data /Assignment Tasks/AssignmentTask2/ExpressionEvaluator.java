@@ -0,0 +1,167 @@
+//Evaluates an infix expression in a single left to right pass
+//numbers go on an int[] operand stack and operators/brackets on a char[]
+//operator stack, and an operator is applied as soon as shunting-yard would
+//have written it to the postfix string, so no postfix string, token array,
+//Node or boxed value is ever created
+//the results are the same as isBalanced() + infixToPostfix() + evaluatePostfix(),
+//including the NumberFormatException for a number too large for an int
+public class ExpressionEvaluator {
+
+    //throws IllegalArgumentException("Invalid Expression") for unbalanced
+    //brackets or any other malformed input, and NumberFormatException for a
+    //number that does not fit in an int
+    public static int evaluate(CharSequence expression) {
+        return evaluate(expression, false);
+    }
+
+    //Same as evaluate() but an int overflow, also in a number, throws
+    //ArithmeticException("integer overflow") instead of wrapping around, and ^ is
+    //computed exactly by squaring. Division by zero throws DivideByZeroException,
+    //so every other ArithmeticException from here is an overflow
+    public static int evaluateExact(CharSequence expression) {
+        return evaluate(expression, true);
+    }
+
+    private static int evaluate(CharSequence expression, boolean exact) {
+        int n = expression.length();
+        // every character pushes at most one operand or one operator
+        int[] operands = new int[n / 2 + 1];
+        int operandTop = 0;
+        char[] ops = new char[n];
+        int opsTop = 0;
+        boolean expectOperand = true;
+
+        for (int i = 0; i < n; i++) {
+            char ch = expression.charAt(i);
+            if (ch == ' ') {
+                continue;
+            }
+            if (expectOperand && ch >= '0' && ch <= '9') {
+                int end = i + 1;
+                while (end < n && (ch = expression.charAt(end)) >= '0' && ch <= '9') {
+                    end++;
+                }
+                operands[operandTop++] = parseLiteral(expression, i, end, exact);
+                i = end - 1;
+                expectOperand = false;
+            } else if (expectOperand && (ch == '(' || ch == '[' || ch == '{')) {
+                ops[opsTop++] = ch;
+            } else if (!expectOperand && (ch == ')' || ch == ']' || ch == '}')) {
+                char open = (ch == ')') ? '(' : (ch == ']') ? '[' : '{';
+                while (opsTop > 0 && precedence(ops[opsTop - 1]) > 0) {
+                    operandTop = apply(ops[--opsTop], operands, operandTop, exact);
+                }
+                if (opsTop == 0 || ops[--opsTop] != open) {
+                    throw invalid();
+                }
+            } else if (!expectOperand && precedence(ch) > 0) {
+                while (opsTop > 0 && precedence(ops[opsTop - 1]) >= precedence(ch) && ch != '^') {
+                    operandTop = apply(ops[--opsTop], operands, operandTop, exact);
+                }
+                ops[opsTop++] = ch;
+                expectOperand = true;
+            } else {
+                throw invalid();
+            }
+        }
+        if (expectOperand) {
+            throw invalid();
+        }
+        while (opsTop > 0) {
+            char op = ops[--opsTop];
+            if (precedence(op) == 0) {
+                throw invalid(); // an opening bracket was never closed
+            }
+            operandTop = apply(op, operands, operandTop, exact);
+        }
+        return operands[0];
+    }
+
+    //value of the digits expression[start..end), a number that does not fit in an int
+    //throws NumberFormatException, the same as Integer.parseInt in evaluatePostfix(),
+    //or ArithmeticException("integer overflow") when exact
+    private static int parseLiteral(CharSequence expression, int start, int end, boolean exact) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = expression.charAt(i) - '0';
+            try {
+                value = Math.addExact(Math.multiplyExact(value, 10), digit);
+            } catch (ArithmeticException e) {
+                if (exact) throw e;
+                throw new NumberFormatException("For input string: \""
+                        + expression.subSequence(start, end) + "\"");
+            }
+        }
+        return value;
+    }
+
+    //pops two operands, pushes op applied to them and returns the new top
+    private static int apply(char op, int[] operands, int top, boolean exact) {
+        int b = operands[--top];
+        int a = operands[top - 1];
+        int result;
+        if (exact) {
+            switch (op) {
+                case '+': result = Math.addExact(a, b); break;
+                case '-': result = Math.subtractExact(a, b); break;
+                case '*': result = Math.multiplyExact(a, b); break;
+                case '/':
+                    if (b == 0) throw new DivideByZeroException();
+                    if (a == Integer.MIN_VALUE && b == -1) throw new ArithmeticException("integer overflow");
+                    result = a / b;
+                    break;
+                default:  result = powExact(a, b); break;
+            }
+        } else {
+            switch (op) {
+                case '+': result = a + b; break;
+                case '-': result = a - b; break;
+                case '*': result = a * b; break;
+                case '/': result = a / b; break;
+                default:  result = (int) Math.pow(a, b); break;
+            }
+        }
+        operands[top - 1] = result;
+        return top;
+    }
+
+    //base^exp by squaring, throws on overflow
+    //a negative exp gives the integer part of the fraction, like PostfixEvaluator.powExact
+    static int powExact(int base, int exp) {
+        if (exp < 0) {
+            if (base == 0) throw new DivideByZeroException();
+            if (base == 1) return 1;
+            if (base == -1) return (exp & 1) == 0 ? 1 : -1;
+            return 0;
+        }
+        int result = 1;
+        while (true) {
+            if ((exp & 1) != 0) result = Math.multiplyExact(result, base);
+            exp >>= 1;
+            if (exp == 0) return result;
+            // base is squared only if a higher bit still needs it, so this
+            // overflows only when the final result would overflow as well
+            base = Math.multiplyExact(base, base);
+        }
+    }
+
+    private static int precedence(char op) {
+        if (op == '^') return 3;
+        if (op == '*' || op == '/') return 2;
+        if (op == '+' || op == '-') return 1;
+        return 0;
+    }
+
+    //thrown by evaluateExact() for a division by zero, also 0 ^ negative
+    public static final class DivideByZeroException extends ArithmeticException {
+        private static final long serialVersionUID = 1L;
+
+        DivideByZeroException() {
+            super("/ by zero");
+        }
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Invalid Expression");
+    }
+}
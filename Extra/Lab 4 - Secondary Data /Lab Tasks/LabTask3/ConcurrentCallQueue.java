@@ -0,0 +1,65 @@
+//CallQueue for many producer threads and one dispatcher thread
+//enqueueCall() may be called from any thread without a lock, every other
+//method belongs to the single dispatcher thread
+//a regular call is only handed out when the VIP queue is empty, and any VIP
+//call whose enqueueCall() returned before pollCall() started is seen by it,
+//so VIP-before-regular holds for every call that was already waiting
+class ConcurrentCallQueue {
+
+    private final MpscQueue vipQueue = new MpscQueue();
+    private final MpscQueue regularQueue = new MpscQueue();
+
+    //set by pollCall(), tells dequeueCall() which queue the call came from
+    private boolean lastWasVip;
+
+    //Any thread, nothing is printed so producers never contend on System.out
+    public void enqueueCall(int customerId, boolean isVip) {
+        if (isVip) {
+            vipQueue.enqueue(customerId);
+        } else {
+            regularQueue.enqueue(customerId);
+        }
+    }
+
+    //Dispatcher thread only
+    //returns the next customer id, VIP calls first, or -1 if no call is waiting
+    //(customer ids are never negative)
+    public int pollCall() {
+        if (!vipQueue.isEmpty()) {
+            lastWasVip = true;
+            return vipQueue.dequeue();
+        }
+        if (!regularQueue.isEmpty()) {
+            lastWasVip = false;
+            return regularQueue.dequeue();
+        }
+        return -1;
+    }
+
+    //Dispatcher thread only, was the call returned by the last pollCall() a VIP call
+    public boolean lastWasVip() {
+        return lastWasVip;
+    }
+
+    //Dispatcher thread only, prints the messages the CallQueue task expects from dequeueCall()
+    public void dequeueCall() {
+        int customerId = pollCall();
+        if (customerId == -1) {
+            System.out.println("No calls in the queue.");
+        } else if (lastWasVip) {
+            System.out.println("Processing VIP Customer " + customerId + ".");
+        } else {
+            System.out.println("Processing Regular Customer " + customerId + ".");
+        }
+    }
+
+    //Dispatcher thread only
+    public void displayQueue() {
+        System.out.println();
+        System.out.println("VIP Queue:");
+        vipQueue.displayQueue();
+        System.out.println("Regular Queue:");
+        regularQueue.displayQueue();
+        System.out.println();
+    }
+}
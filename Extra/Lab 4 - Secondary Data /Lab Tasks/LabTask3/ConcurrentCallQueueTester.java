@@ -0,0 +1,90 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+//Stress tester for ConcurrentCallQueue
+//PRODUCERS threads enqueue calls while the main thread dispatches them, then checks:
+// - every call is dispatched exactly once
+// - calls of one producer and one tier come out in the order they went in
+// - a regular call is never dispatched while a VIP call that was already
+//   enqueued (its enqueueCall() had returned) is still waiting
+class ConcurrentCallQueueTester {
+
+    static final int PRODUCERS = 4;
+    static final int CALLS_PER_PRODUCER = 500_000;
+    static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("===========EXPECTED OUTPUT===========");
+        System.out.println("Processing VIP Customer 201.\n"
+                + "Processing Regular Customer 101.\n"
+                + "No calls in the queue.");
+        System.out.println("\n===========YOUR OUTPUT===========");
+        ConcurrentCallQueue callCenter = new ConcurrentCallQueue();
+        callCenter.enqueueCall(101, false);
+        callCenter.enqueueCall(201, true);
+        callCenter.dequeueCall();
+        callCenter.dequeueCall();
+        callCenter.dequeueCall();
+
+        System.out.println("\n===========STRESS===========");
+        for (int round = 1; round <= ROUNDS; round++) {
+            stress();
+            System.out.println("Round " + round + ": " + PRODUCERS * CALLS_PER_PRODUCER
+                    + " calls from " + PRODUCERS + " producers, Test Passed!");
+        }
+    }
+
+    static boolean isVip(int seq) {
+        return seq % 3 == 0;
+    }
+
+    static void stress() throws InterruptedException {
+        ConcurrentCallQueue callCenter = new ConcurrentCallQueue();
+        AtomicLong vipEnqueued = new AtomicLong();
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int base = p * CALLS_PER_PRODUCER;
+            producers[p] = new Thread(() -> {
+                for (int seq = 0; seq < CALLS_PER_PRODUCER; seq++) {
+                    callCenter.enqueueCall(base + seq, isVip(seq));
+                    if (isVip(seq)) vipEnqueued.incrementAndGet();
+                }
+            });
+            producers[p].start();
+        }
+
+        // lastSeq[p][0] is the last regular, lastSeq[p][1] the last VIP seq of producer p
+        int[][] lastSeq = new int[PRODUCERS][2];
+        for (int[] last : lastSeq) last[0] = last[1] = -1;
+        long dispatched = 0, vipDispatched = 0;
+        long total = (long) PRODUCERS * CALLS_PER_PRODUCER;
+        while (dispatched < total) {
+            long vipWaiting = vipEnqueued.get();
+            int customerId = callCenter.pollCall();
+            if (customerId == -1) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int p = customerId / CALLS_PER_PRODUCER;
+            int seq = customerId % CALLS_PER_PRODUCER;
+            boolean vip = callCenter.lastWasVip();
+            if (vip != isVip(seq)) {
+                throw new AssertionError("call " + customerId + " came out of the wrong queue");
+            }
+            if (lastSeq[p][vip ? 1 : 0] >= seq) {
+                throw new AssertionError("call " + customerId + " dispatched out of order");
+            }
+            lastSeq[p][vip ? 1 : 0] = seq;
+            if (vip) {
+                vipDispatched++;
+            } else if (vipDispatched < vipWaiting) {
+                throw new AssertionError("regular call " + customerId + " dispatched before "
+                        + (vipWaiting - vipDispatched) + " waiting VIP call(s)");
+            }
+            dispatched++;
+        }
+        for (Thread t : producers) t.join();
+        if (callCenter.pollCall() != -1) {
+            throw new AssertionError("calls left over after dispatching " + total);
+        }
+    }
+}
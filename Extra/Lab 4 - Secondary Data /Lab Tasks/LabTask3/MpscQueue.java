@@ -0,0 +1,79 @@
+import java.util.concurrent.atomic.AtomicReference;
+
+//Lock-free queue for many producer threads and a single consumer thread
+//(Dmitry Vyukov's intrusive MPSC linked queue)
+//enqueue() is one atomic swap of the tail followed by linking the old tail
+//to the new node, so producers never wait for each other or for the consumer
+//dequeue(), peek() and isEmpty() may only be called from the consumer thread
+class MpscQueue {
+
+    private static final class Cell {
+        final int elem;
+        volatile Cell next;
+
+        Cell(int elem) {
+            this.elem = elem;
+        }
+    }
+
+    //head is a dummy cell, the first element is head.next
+    private Cell head;
+    private final AtomicReference<Cell> tail;
+
+    public MpscQueue() {
+        Cell dummy = new Cell(0);
+        this.head = dummy;
+        this.tail = new AtomicReference<>(dummy);
+    }
+
+    //Safe to call from any number of threads at once
+    public void enqueue(int elem) {
+        Cell cell = new Cell(elem);
+        Cell prev = tail.getAndSet(cell);
+        //until this write the consumer cannot reach cell, firstCell() waits for it
+        prev.next = cell;
+    }
+
+    //Consumer thread only
+    public int dequeue() {
+        Cell next = firstCell();
+        head = next;
+        return next.elem;
+    }
+
+    //Consumer thread only
+    public int peek() {
+        return firstCell().elem;
+    }
+
+    //Consumer thread only
+    //the tail swap is the point where an enqueue takes effect, so every
+    //enqueue that has returned (or is about to link its cell) is counted
+    public boolean isEmpty() {
+        return head == tail.get();
+    }
+
+    //returns head.next, waiting for a producer that has swapped the tail
+    //but not linked its cell yet, so no element can be skipped over
+    private Cell firstCell() {
+        Cell next = head.next;
+        if (next == null) {
+            if (isEmpty()) {
+                throw new RuntimeException("Queue is empty");
+            }
+            while ((next = head.next) == null) {
+                Thread.onSpinWait();
+            }
+        }
+        return next;
+    }
+
+    //Consumer thread only
+    public void displayQueue() {
+        StringBuilder sb = new StringBuilder("Queue (front to rear): ");
+        for (Cell c = head.next; c != null; c = c.next) {
+            sb.append(c.elem).append(" -> ");
+        }
+        System.out.println(sb.append("NULL"));
+    }
+}
@@ -0,0 +1,191 @@
+import java.util.Arrays;
+
+//CallQueue with any number of priority tiers, tier 0 is served first
+//the waiting calls are kept in one binary min-heap, so enqueueCall() and
+//pollCall() are O(log n) no matter how many calls are waiting
+//
+//Aging: with agingSteps = 0 a call is ranked by (tier, arrival number), which is
+//strict priority and lets low tiers starve. With agingSteps > 0 a call is ranked
+//by arrival + tier * agingSteps instead, so a tier k call is served before any
+//call that arrives more than k * agingSteps calls after it, whatever its tier.
+//The rank never changes after the call is enqueued, so the heap stays valid.
+class PriorityCallQueue {
+
+    private final int tiers;
+    private final long agingSteps;
+
+    //heap arrays, slot 0 is the root and the children of i are 2i+1 and 2i+2
+    private long[] rank;
+    private long[] arrival;
+    private long[] enqueuedAt;
+    private int[] customerId;
+    private int[] tier;
+    private int size;
+
+    private long arrivals;
+    private final WaitTimeHistogram[] waitTimes;
+
+    //set by pollCall(), the tier of the call it returned
+    private int lastTier = -1;
+
+    public PriorityCallQueue(int tiers) {
+        this(tiers, 0);
+    }
+
+    public PriorityCallQueue(int tiers, long agingSteps) {
+        if (tiers < 1 || agingSteps < 0) {
+            throw new IllegalArgumentException("tiers must be positive and agingSteps not negative");
+        }
+        this.tiers = tiers;
+        this.agingSteps = agingSteps;
+        this.waitTimes = new WaitTimeHistogram[tiers];
+        for (int t = 0; t < tiers; t++) {
+            waitTimes[t] = new WaitTimeHistogram();
+        }
+        allocate(16);
+    }
+
+    public void enqueueCall(int customerId, int tier) {
+        if (tier < 0 || tier >= tiers) {
+            throw new IllegalArgumentException("tier " + tier + " is not between 0 and " + (tiers - 1));
+        }
+        if (size == rank.length) {
+            grow();
+        }
+        long seq = arrivals;
+        //a huge agingSteps would overflow the rank and reorder the calls, so that
+        //throws ArithmeticException before anything is changed
+        long callRank = agingSteps == 0 ? tier : Math.addExact(seq, Math.multiplyExact(tier, agingSteps));
+        arrivals++;
+        int i = size++;
+        this.rank[i] = callRank;
+        this.arrival[i] = seq;
+        this.enqueuedAt[i] = System.nanoTime();
+        this.customerId[i] = customerId;
+        this.tier[i] = tier;
+        siftUp(i);
+    }
+
+    //returns the customer id of the next call to serve, or -1 if no call is waiting
+    //(customer ids are never negative)
+    public int pollCall() {
+        if (size == 0) {
+            return -1;
+        }
+        int id = customerId[0];
+        lastTier = tier[0];
+        waitTimes[lastTier].record(System.nanoTime() - enqueuedAt[0]);
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return id;
+    }
+
+    //the tier of the call returned by the last pollCall()
+    public int lastTier() {
+        return lastTier;
+    }
+
+    public void dequeueCall() {
+        int id = pollCall();
+        if (id == -1) {
+            System.out.println("No calls in the queue.");
+        } else {
+            System.out.println("Processing Tier " + lastTier + " Customer " + id + ".");
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    //wait time in nanoseconds of the given percentile (0-100) of served calls of a tier
+    public long waitPercentile(int tier, double percentile) {
+        return waitTimes[tier].percentile(percentile);
+    }
+
+    //Prints how many calls of each tier were served and their p50/p99 wait times
+    public void printWaitTimes() {
+        for (int t = 0; t < tiers; t++) {
+            System.out.printf("Tier %d: served %d, p50 wait %.3f ms, p99 wait %.3f ms%n",
+                    t, waitTimes[t].count(),
+                    waitTimes[t].percentile(50) / 1e6, waitTimes[t].percentile(99) / 1e6);
+        }
+    }
+
+    //Does heap slot a come before heap slot b?
+    private boolean before(int a, int b) {
+        if (rank[a] != rank[b]) {
+            return rank[a] < rank[b];
+        }
+        if (agingSteps != 0 && tier[a] != tier[b]) {
+            return tier[a] < tier[b];
+        }
+        return arrival[a] < arrival[b];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!before(i, parent)) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && before(left, smallest)) smallest = left;
+            if (right < size && before(right, smallest)) smallest = right;
+            if (smallest == i) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long r = rank[a]; rank[a] = rank[b]; rank[b] = r;
+        long s = arrival[a]; arrival[a] = arrival[b]; arrival[b] = s;
+        long e = enqueuedAt[a]; enqueuedAt[a] = enqueuedAt[b]; enqueuedAt[b] = e;
+        int c = customerId[a]; customerId[a] = customerId[b]; customerId[b] = c;
+        int t = tier[a]; tier[a] = tier[b]; tier[b] = t;
+    }
+
+    private void move(int from, int to) {
+        rank[to] = rank[from];
+        arrival[to] = arrival[from];
+        enqueuedAt[to] = enqueuedAt[from];
+        customerId[to] = customerId[from];
+        tier[to] = tier[from];
+    }
+
+    private void allocate(int capacity) {
+        rank = new long[capacity];
+        arrival = new long[capacity];
+        enqueuedAt = new long[capacity];
+        customerId = new int[capacity];
+        tier = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = rank.length * 2;
+        rank = Arrays.copyOf(rank, capacity);
+        arrival = Arrays.copyOf(arrival, capacity);
+        enqueuedAt = Arrays.copyOf(enqueuedAt, capacity);
+        customerId = Arrays.copyOf(customerId, capacity);
+        tier = Arrays.copyOf(tier, capacity);
+    }
+}
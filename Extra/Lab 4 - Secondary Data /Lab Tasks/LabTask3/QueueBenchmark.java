@@ -0,0 +1,87 @@
+//Benchmarks LinkedListQueue.enqueue() and LinkedListQueue.dequeue()
+//against RingBufferQueue, one element at a time and in batches of BATCH,
+//and PriorityCallQueue with 4 tiers with n calls pending
+//run: java QueueBenchmark [maxSize] [results.json]
+public class QueueBenchmark {
+
+    static final int BATCH = 256;
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        for (int n : Bench.sizes(args)) {
+            bench.measure("LinkedListQueue.enqueue", n, n, size -> {
+                LinkedListQueue q = new LinkedListQueue();
+                return () -> {
+                    for (int i = 0; i < size; i++) q.enqueue(i);
+                    return q.peek();
+                };
+            });
+
+            bench.measure("LinkedListQueue.dequeue", n, n, size -> {
+                LinkedListQueue q = new LinkedListQueue();
+                for (int i = 0; i < size; i++) q.enqueue(i);
+                return () -> {
+                    long sum = 0;
+                    for (int i = 0; i < size; i++) sum += q.dequeue();
+                    return sum;
+                };
+            });
+
+            bench.measure("RingBufferQueue.enqueue", n, n, size -> {
+                RingBufferQueue q = new RingBufferQueue();
+                return () -> {
+                    for (int i = 0; i < size; i++) q.enqueue(i);
+                    return q.peek();
+                };
+            });
+
+            bench.measure("RingBufferQueue.dequeue", n, n, size -> {
+                RingBufferQueue q = new RingBufferQueue(size);
+                for (int i = 0; i < size; i++) q.enqueue(i);
+                return () -> {
+                    long sum = 0;
+                    for (int i = 0; i < size; i++) sum += q.dequeue();
+                    return sum;
+                };
+            });
+
+            int[] batch = new int[Math.min(n, BATCH)];
+            bench.measure("RingBufferQueue.enqueueAll", n, n, size -> {
+                RingBufferQueue q = new RingBufferQueue(size);
+                return () -> {
+                    for (int i = 0; i < size; i += batch.length) q.enqueueAll(batch);
+                    return q.size();
+                };
+            });
+
+            bench.measure("RingBufferQueue.drainTo", n, n, size -> {
+                RingBufferQueue q = new RingBufferQueue(size);
+                for (int i = 0; i < size; i++) q.enqueue(i);
+                return () -> {
+                    long sum = 0;
+                    while (!q.isEmpty()) sum += q.drainTo(batch, batch.length);
+                    return sum;
+                };
+            });
+
+            bench.measure("PriorityCallQueue.enqueueCall", n, n, size -> {
+                PriorityCallQueue q = new PriorityCallQueue(4, 1000);
+                return () -> {
+                    for (int i = 0; i < size; i++) q.enqueueCall(i, i & 3);
+                    return q.size();
+                };
+            });
+
+            bench.measure("PriorityCallQueue.pollCall", n, n, size -> {
+                PriorityCallQueue q = new PriorityCallQueue(4, 1000);
+                for (int i = 0; i < size; i++) q.enqueueCall(i, i & 3);
+                return () -> {
+                    long sum = 0;
+                    for (int i = 0; i < size; i++) sum += q.pollCall();
+                    return sum;
+                };
+            });
+        }
+        bench.report(args);
+    }
+}
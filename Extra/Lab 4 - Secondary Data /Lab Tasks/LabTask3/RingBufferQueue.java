@@ -0,0 +1,120 @@
+//Same enqueue/dequeue/peek/isEmpty/displayQueue as LinkedListQueue
+//but the elements live in one int[] used as a circular buffer
+//the length is always a power of two so (index & mask) wraps around,
+//and the buffer is doubled when it is full instead of creating a Node per element
+class RingBufferQueue {
+
+    //largest power of two an int[] can have
+    private static final int MAX_LENGTH = 1 << 30;
+
+    private int[] elems;
+    private int mask;
+    // front is the index of the first element, size how many elements follow it
+    private int front, size;
+
+    public RingBufferQueue() {
+        this(16);
+    }
+
+    //capacity is a hint for how many elements the queue will hold at once
+    public RingBufferQueue(int capacity) {
+        if (capacity > MAX_LENGTH) {
+            throw new IllegalArgumentException("capacity is more than " + MAX_LENGTH + ": " + capacity);
+        }
+        int length = 1;
+        while (length < capacity) {
+            length *= 2;
+        }
+        this.elems = new int[length];
+        this.mask = length - 1;
+    }
+
+    public void enqueue(int elem) {
+        if (size == elems.length) {
+            grow(size + 1);
+        }
+        elems[(front + size) & mask] = elem;
+        size++;
+    }
+
+    //Adds every element of src to the rear, in order
+    //at most two System.arraycopy calls, one on each side of the wrap point
+    public void enqueueAll(int[] src) {
+        if ((long) size + src.length > elems.length) {
+            grow((long) size + src.length);
+        }
+        int rear = (front + size) & mask;
+        int first = Math.min(src.length, elems.length - rear);
+        System.arraycopy(src, 0, elems, rear, first);
+        System.arraycopy(src, first, elems, 0, src.length - first);
+        size += src.length;
+    }
+
+    public int dequeue() {
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        int removedElem = elems[front];
+        front = (front + 1) & mask;
+        size--;
+        return removedElem;
+    }
+
+    //Moves up to max elements from the front into dst[0], dst[1], ...
+    //returns how many elements were moved, 0 if max is not positive
+    public int drainTo(int[] dst, int max) {
+        if (max <= 0) {
+            return 0;
+        }
+        int count = Math.min(Math.min(max, dst.length), size);
+        int first = Math.min(count, elems.length - front);
+        System.arraycopy(elems, front, dst, 0, first);
+        System.arraycopy(elems, 0, dst, first, count - first);
+        front = (front + count) & mask;
+        size -= count;
+        return count;
+    }
+
+    public int peek() {
+        if (isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return elems[front];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    //number of elements in the queue, kept up to date so no walking is needed
+    public int size() {
+        return size;
+    }
+
+    public void displayQueue() {
+        StringBuilder sb = new StringBuilder("Queue (front to rear): ");
+        for (int i = 0; i < size; i++) {
+            sb.append(elems[(front + i) & mask]).append(" -> ");
+        }
+        System.out.println(sb.append("NULL"));
+    }
+
+    //Doubles the buffer until it fits minCapacity, the elements are copied so
+    //that the front ends up at index 0 again
+    private void grow(long minCapacity) {
+        if (minCapacity > MAX_LENGTH) {
+            throw new IllegalStateException("Queue is full, it cannot hold more than " + MAX_LENGTH + " elements");
+        }
+        int length = elems.length;
+        while (length < minCapacity) {
+            length *= 2;
+        }
+        int[] bigger = new int[length];
+        int first = Math.min(size, elems.length - front);
+        System.arraycopy(elems, front, bigger, 0, first);
+        System.arraycopy(elems, 0, bigger, first, size - first);
+        elems = bigger;
+        mask = length - 1;
+        front = 0;
+    }
+}
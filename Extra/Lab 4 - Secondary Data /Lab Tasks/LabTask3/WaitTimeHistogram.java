@@ -0,0 +1,54 @@
+//Counts wait times in log-scale buckets so percentiles can be read back
+//without keeping every sample: each power of two is split into 8 buckets,
+//so a reported percentile is at most 12.5% above the real value
+class WaitTimeHistogram {
+
+    private static final int SUB_BUCKETS = 8;
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+    private long total;
+
+    public void record(long nanos) {
+        counts[bucketOf(Math.max(0, nanos))]++;
+        total++;
+    }
+
+    public long count() {
+        return total;
+    }
+
+    //returns the upper bound of the bucket holding the given percentile (0-100)
+    public long percentile(double p) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p / 100 * total));
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if (seen >= rank) {
+                return upperBoundOf(b);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    //values below SUB_BUCKETS get a bucket each, larger ones are split by their
+    //highest bit and the 3 bits right below it
+    private static int bucketOf(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int exp = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exp - 3)) & (SUB_BUCKETS - 1);
+        return (exp - 2) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int b) {
+        if (b < SUB_BUCKETS) {
+            return b;
+        }
+        int exp = b / SUB_BUCKETS + 2;
+        int sub = b % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exp - 3)) - 1;
+    }
+}
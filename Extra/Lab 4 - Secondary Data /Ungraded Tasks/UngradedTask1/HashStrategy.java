@@ -0,0 +1,44 @@
+/*A HashStrategy turns a String key into an int hash
+ the HashTable takes the hash modulo its length to pick the bucket
+ so a strategy never needs to know the size of the table*/
+public interface HashStrategy {
+
+    int hash(String key);
+
+    // the course hash: sum of all the characters of the key
+    // kept for compatibility, similar keys easily land in the same bucket
+    HashStrategy CHAR_SUM = key -> {
+        int sum = 0;
+        for (int i = 0; i < key.length(); i++) {
+            sum += key.charAt(i);
+        }
+        return sum;
+    };
+
+    // 32 bit FNV-1a: xor in each character then multiply by the FNV prime
+    HashStrategy FNV_1A = key -> {
+        int h = 0x811C9DC5;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x01000193;
+        }
+        return h;
+    };
+
+    // 64 bit multiply-xorshift over the characters, finished with the
+    // MurmurHash3 fmix64 step so every input bit affects the low bits too
+    HashStrategy MIX_64 = key -> {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0xBF58476D1CE4E5B9L;
+            h ^= h >>> 31;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) (h ^ (h >>> 32));
+    };
+
+}
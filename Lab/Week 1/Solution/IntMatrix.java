@@ -0,0 +1,88 @@
+//2D matrix of primitive ints kept in one row-major int[]
+//cell (r, c) is data[r * stride + c], so a row is one contiguous piece of memory
+//and reading a cell is a single load, no row array to follow and no unboxing
+//as with Integer[][]. stride is usually cols but can be larger, e.g. for padding
+//or for a matrix that is a block of a wider one.
+class IntMatrix {
+
+    private final int rows, cols, stride;
+    private final int[] data;
+
+    public IntMatrix(int rows, int cols) {
+        this(rows, cols, cols, new int[rows * cols]);
+    }
+
+    // data is used as it is, not copied
+    public IntMatrix(int rows, int cols, int stride, int[] data) {
+        if (rows < 0 || cols < 0 || stride < cols) {
+            throw new IllegalArgumentException("bad shape " + rows + "x" + cols + ", stride " + stride);
+        }
+        if (rows > 0 && (long) (rows - 1) * stride + cols > data.length) {
+            throw new IllegalArgumentException("data is too short for " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = stride;
+        this.data = data;
+    }
+
+    // Copies an Integer[][] (rows must all have the same length), null cells become 0
+    public static IntMatrix of(Integer[][] matrix) {
+        int rows = matrix.length;
+        int cols = rows == 0 ? 0 : matrix[0].length;
+        IntMatrix m = new IntMatrix(rows, cols);
+        for (int r = 0; r < rows; r++) {
+            Integer[] row = matrix[r];
+            int base = r * cols;
+            for (int c = 0; c < cols; c++) {
+                Integer v = row[c];
+                m.data[base + c] = v == null ? 0 : v;
+            }
+        }
+        return m;
+    }
+
+    public Integer[][] toIntegerArray() {
+        Integer[][] matrix = new Integer[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            int base = r * stride;
+            for (int c = 0; c < cols; c++) {
+                matrix[r][c] = data[base + c];
+            }
+        }
+        return matrix;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    // the backing array, for loops that walk it directly with index(r, c)
+    public int[] data() {
+        return data;
+    }
+
+    public int index(int r, int c) {
+        return r * stride + c;
+    }
+
+    public int get(int r, int c) {
+        return data[r * stride + c];
+    }
+
+    public void set(int r, int c, int value) {
+        data[r * stride + c] = value;
+    }
+
+    public void print() {
+        Arr.print2D(toIntegerArray());
+    }
+}
@@ -0,0 +1,127 @@
+import java.util.PrimitiveIterator;
+
+//Merges k sorted inputs in one pass with a loser tree (tournament tree)
+//Chaining mergeSortedArray pairwise copies every element once per merge, O(n*k);
+//here every element is copied once and costs O(log k) comparisons, O(n log k) in total.
+//
+//The inputs are int[] runs or sorted PrimitiveIterator.OfInt (e.g. read from files).
+//read() hands out the merged output in chunks into a buffer the caller owns,
+//so with iterator inputs the memory used is O(k) whatever the number of elements.
+//On equal elements the input with the lower index goes first (stable).
+class KWayMerge {
+
+    private final int k;
+    //input i is either runs[i][pos[i]..] or iterators[i]
+    private final int[][] runs;
+    private final int[] pos;
+    private final PrimitiveIterator.OfInt[] iterators;
+
+    //current first element of every input, and whether it has run out
+    private final int[] heads;
+    private final boolean[] done;
+    //tree[0] is the input with the smallest head, tree[1..k-1] the losers of the
+    //matches at the internal nodes, leaf i is node k + i and node t's parent is t / 2
+    private final int[] tree;
+
+    public KWayMerge(int[][] runs) {
+        this(runs, null, runs.length);
+    }
+
+    public KWayMerge(PrimitiveIterator.OfInt[] iterators) {
+        this(null, iterators, iterators.length);
+    }
+
+    private KWayMerge(int[][] runs, PrimitiveIterator.OfInt[] iterators, int k) {
+        this.k = k;
+        this.runs = runs;
+        this.pos = new int[k];
+        this.iterators = iterators;
+        this.heads = new int[k];
+        this.done = new boolean[k];
+        this.tree = new int[Math.max(k, 1)];
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+        if (k > 0) {
+            tree[0] = build(1);
+        }
+    }
+
+    //Merges all runs into a new array
+    public static int[] merge(int[][] runs) {
+        long total = 0;
+        for (int[] run : runs) {
+            total += run.length;
+        }
+        int[] merged = new int[Math.toIntExact(total)];
+        new KWayMerge(runs).read(merged, 0, merged.length);
+        return merged;
+    }
+
+    //Writes up to len merged elements to buf[off], buf[off+1], ...
+    //returns how many were written, or -1 once every input is used up
+    public int read(int[] buf, int off, int len) {
+        if (k == 0 || done[tree[0]]) {
+            return -1;
+        }
+        int n = 0;
+        while (n < len) {
+            int w = tree[0];
+            if (done[w]) {
+                break;
+            }
+            buf[off + n++] = heads[w];
+            advance(w);
+            replay(w);
+        }
+        return n;
+    }
+
+    //Plays the matches from leaf w up to the root again after w's head changed
+    private void replay(int w) {
+        for (int t = (k + w) >>> 1; t > 0; t >>>= 1) {
+            if (beats(tree[t], w)) {
+                int loser = w;
+                w = tree[t];
+                tree[t] = loser;
+            }
+        }
+        tree[0] = w;
+    }
+
+    //Fills tree[] below node t and returns the winner of node t's subtree
+    private int build(int t) {
+        if (t >= k) {
+            return t - k;
+        }
+        int left = build(2 * t);
+        int right = build(2 * t + 1);
+        if (beats(left, right)) {
+            tree[t] = right;
+            return left;
+        }
+        tree[t] = left;
+        return right;
+    }
+
+    //Does input a's head come before input b's? a used up input loses to everything
+    private boolean beats(int a, int b) {
+        if (done[a]) return false;
+        if (done[b]) return true;
+        return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+    }
+
+    private void advance(int i) {
+        if (runs != null) {
+            if (pos[i] < runs[i].length) {
+                heads[i] = runs[i][pos[i]++];
+            } else {
+                done[i] = true;
+            }
+        } else if (iterators[i].hasNext()) {
+            heads[i] = iterators[i].nextInt();
+        } else {
+            done[i] = true;
+        }
+    }
+}
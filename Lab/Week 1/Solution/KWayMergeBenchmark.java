@@ -0,0 +1,60 @@
+import java.util.Arrays;
+
+//KWayMerge against chaining the int[] mergeSortedArray pairwise, for k sorted runs
+//holding n elements in total
+//run: java KWayMergeBenchmark [maxSize] [results.json]
+public class KWayMergeBenchmark {
+
+    static final int[] RUNS = {2, 16, 256};
+    static final int CHUNK = 4096;
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        for (int n : Bench.sizes(args)) {
+            for (int k : RUNS) {
+                if (k > n) {
+                    continue;
+                }
+                int[][] runs = sortedRuns(n, k);
+                bench.measure("pairwise mergeSortedArray/k=" + k, n, n, size -> () -> {
+                    int[] merged = new int[0];
+                    for (int[] run : runs) {
+                        int[] next = new int[merged.length + run.length];
+                        LabTask1_Optimized.mergeSortedArray(merged, 0, merged.length,
+                                run, 0, run.length, next, 0);
+                        merged = next;
+                    }
+                    return merged[size / 2];
+                });
+                bench.measure("KWayMerge.merge/k=" + k, n, n, size -> () -> {
+                    int[] merged = KWayMerge.merge(runs);
+                    return merged[size / 2];
+                });
+                bench.measure("KWayMerge.read/k=" + k, n, n, size -> {
+                    int[] buf = new int[CHUNK];
+                    return () -> {
+                        KWayMerge merge = new KWayMerge(runs);
+                        long sum = 0;
+                        int count;
+                        while ((count = merge.read(buf, 0, CHUNK)) != -1) {
+                            sum += buf[count - 1];
+                        }
+                        return sum;
+                    };
+                });
+            }
+        }
+        bench.report(args);
+    }
+
+    //n random ints cut into k runs, each sorted
+    static int[][] sortedRuns(int n, int k) {
+        int[] all = Bench.randomInts(n, 20);
+        int[][] runs = new int[k][];
+        for (int i = 0; i < k; i++) {
+            runs[i] = Arrays.copyOfRange(all, (int) ((long) n * i / k), (int) ((long) n * (i + 1) / k));
+            Arrays.sort(runs[i]);
+        }
+        return runs;
+    }
+}
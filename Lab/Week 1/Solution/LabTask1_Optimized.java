@@ -42,6 +42,31 @@ class LabTask1_Optimized {
         return mergedArray;
     }
 
+    /*
+     * Same merge on primitive ints, for ParallelMergeSort.
+     * Merges a[aFrom..aTo) and b[bFrom..bTo) into dst starting at dstFrom,
+     * so the caller reuses one buffer instead of getting a new array every time.
+     * On ties the element of a goes first, which keeps the merge stable.
+     * Time: O(m + n), Space: O(1)
+     */
+    public static void mergeSortedArray(int[] a, int aFrom, int aTo,
+                                        int[] b, int bFrom, int bTo,
+                                        int[] dst, int dstFrom) {
+        int i = aFrom, j = bFrom, k = dstFrom;
+
+        while (i < aTo && j < bTo) {
+            if (a[i] <= b[j]) {
+                dst[k++] = a[i++];
+            } else {
+                dst[k++] = b[j++];
+            }
+        }
+
+        // At most one of the two still has elements, copy them in one go
+        System.arraycopy(a, i, dst, k, aTo - i);
+        System.arraycopy(b, j, dst, k + (aTo - i), bTo - j);
+    }
+
     // DO NOT CHANGE ANY DRIVER CODE BELOW THIS LINE
     public static void main(String[] args) {
         Integer[] a1 = { 1, 2, 3 };
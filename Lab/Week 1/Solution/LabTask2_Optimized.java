@@ -41,6 +41,37 @@ class LabTask2_Optimized {
         }
     }
 
+    // Same walk on an IntMatrix, the output is built in one StringBuilder
+    // and printed once instead of one print call per cell
+    public static void walkZigzag(IntMatrix matrix) {
+        StringBuilder sb = new StringBuilder();
+        walkZigzag(matrix, sb);
+        System.out.print(sb);
+    }
+
+    // Appends the zigzag walk to out, in the same format walkZigzag prints
+    public static void walkZigzag(IntMatrix matrix, StringBuilder out) {
+        int m = matrix.rows();
+        int n = matrix.cols();
+        int[] data = matrix.data();
+        int stride = matrix.stride();
+        int lastOdd = ((m - 1) % 2 == 1) ? (m - 1) : (m - 2);
+
+        for (int c = 0; c < n; c++) {
+            // even columns: even rows top-down, odd columns: odd rows bottom-up
+            int first = (c % 2 == 0) ? 0 : lastOdd;
+            int step = (c % 2 == 0) ? 2 : -2;
+            boolean printed = false;
+            for (int r = first; r >= 0 && r < m; r += step) {
+                out.append(data[r * stride + c]).append(' ');
+                printed = true;
+            }
+            if (printed) {
+                out.append('\n');
+            }
+        }
+    }
+
     // DO NOT CHANGE ANY DRIVER CODE BELOW THIS LINE
     public static void main(String[] args) {
         Integer[][] floor1 = {
@@ -30,6 +30,37 @@ class LabTask3_Optimized {
         return decryptedArray;
     }
 
+    // Same decryption on an IntMatrix
+    // the column sums are built row by row, so memory is read front to back
+    // instead of jumping a whole row ahead for every cell
+    public static int[] decryptMatrix(IntMatrix matrix) {
+        int[] colSums = new int[matrix.cols()];
+        addColumnSums(matrix, 0, matrix.rows(), colSums);
+        return differences(colSums);
+    }
+
+    // Adds the cells of rows [r0, r1) to colSums, column by column
+    static void addColumnSums(IntMatrix matrix, int r0, int r1, int[] colSums) {
+        int cols = matrix.cols();
+        int[] data = matrix.data();
+        for (int r = r0; r < r1; r++) {
+            int base = matrix.index(r, 0);
+            for (int c = 0; c < cols; c++) {
+                colSums[c] += data[base + c];
+            }
+        }
+    }
+
+    // Differences between consecutive column sums
+    static int[] differences(int[] colSums) {
+        int cols = colSums.length;
+        int[] decryptedArray = new int[Math.max(cols - 1, 0)];
+        for (int i = 0; i < cols - 1; i++) {
+            decryptedArray[i] = colSums[i + 1] - colSums[i];
+        }
+        return decryptedArray;
+    }
+
     // DO NOT CHANGE ANY DRIVER CODE BELOW THIS LINE
     public static void main(String[] args) {
         Integer[][] matrix = {
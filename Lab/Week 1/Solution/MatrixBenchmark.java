@@ -0,0 +1,60 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+//Integer[][] against IntMatrix for compressMatrix, playGame, decryptMatrix and walkZigzag
+//on square grids with about size cells
+//run: java MatrixBenchmark [maxSize] [results.json]
+//playGame and walkZigzag print, their output goes to a stream that drops it
+public class MatrixBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        for (int n : Bench.sizes(args)) {
+            int side = Math.max(2, (int) Math.sqrt(n));
+            int cells = side * side;
+            Integer[][] boxed = grid(side);
+            IntMatrix matrix = IntMatrix.of(boxed);
+
+            bench.measure("compressMatrix/Integer[][]", cells, cells, size -> () ->
+                    AssgnTask2.compressMatrix(boxed)[0][0]);
+            bench.measure("compressMatrix/IntMatrix", cells, cells, size -> () ->
+                    AssgnTask2.compressMatrix(matrix).get(0, 0));
+            bench.measure("playGame/Integer[][]", cells, cells, size -> () -> {
+                AssgnTask3.playGame(boxed);
+                return 0;
+            });
+            bench.measure("playGame/IntMatrix", cells, cells, size -> () -> {
+                AssgnTask3.playGame(matrix);
+                return 0;
+            });
+            bench.measure("decryptMatrix/Integer[][]", cells, cells, size -> () ->
+                    LabTask3_Optimized.decryptMatrix(boxed)[0]);
+            bench.measure("decryptMatrix/IntMatrix", cells, cells, size -> () ->
+                    LabTask3_Optimized.decryptMatrix(matrix)[0]);
+            bench.measure("walkZigzag/Integer[][]", cells, cells, size -> () -> {
+                LabTask2_Optimized.walkZigzag(boxed);
+                return 0;
+            });
+            bench.measure("walkZigzag/IntMatrix", cells, cells, size -> () -> {
+                LabTask2_Optimized.walkZigzag(matrix);
+                return 0;
+            });
+        }
+        System.setOut(stdout);
+        bench.report(args);
+    }
+
+    //side x side grid of values 0..199, so there are players (multiples of 50) and 2s
+    static Integer[][] grid(int side) {
+        int[] values = Bench.randomInts(side * side, 22);
+        Integer[][] grid = new Integer[side][side];
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                grid[r][c] = Math.floorMod(values[r * side + c], 200);
+            }
+        }
+        return grid;
+    }
+}
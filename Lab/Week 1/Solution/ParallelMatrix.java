@@ -0,0 +1,183 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+//Parallel versions of compressMatrix, playGame and decryptMatrix for IntMatrix
+//The work is cut into tiles of about TILE_CELLS cells (a tile fits in the L2 cache
+//with room to spare) and the tiles are run on a ForkJoinPool. Every tile runs the
+//same loop the sequential version uses, only over its own rows and columns, and
+//int additions give the same bits in any order, so the results are identical to
+//AssgnTask2.compressMatrix, AssgnTask3.playGame and LabTask3_Optimized.decryptMatrix.
+class ParallelMatrix {
+
+    //cells per tile, 32K ints = 128 KB
+    static final int TILE_CELLS = 1 << 15;
+    //tiles are as wide as this at most, so a tile row stays one long contiguous run
+    static final int MAX_TILE_COLS = 4096;
+
+    //Work on the tile rows [r0, r1) x columns [c0, c1)
+    interface TileAction {
+        void run(int r0, int r1, int c0, int c1);
+    }
+
+    //Same for work that returns a value per tile, the values are added up
+    interface TileSum {
+        int run(int r0, int r1, int c0, int c1);
+    }
+
+    public static IntMatrix compressMatrix(IntMatrix matrix, ForkJoinPool pool) {
+        IntMatrix compressed = new IntMatrix(matrix.rows() / 2, matrix.cols() / 2);
+        forEachTile(compressed.rows(), compressed.cols(), pool, (i0, i1, j0, j1) ->
+                AssgnTask2.compressRange(matrix, compressed, i0, i1, j0, j1));
+        return compressed;
+    }
+
+    public static int points(IntMatrix arena, ForkJoinPool pool) {
+        return sumOverTiles(arena.rows(), arena.cols(), pool, (r0, r1, c0, c1) ->
+                AssgnTask3.points(arena, r0, r1, c0, c1));
+    }
+
+    public static void playGame(IntMatrix arena, ForkJoinPool pool) {
+        AssgnTask3.printResult(points(arena, pool));
+    }
+
+    //Every task sums its band of rows into its own int[cols], the partial sums are
+    //then added pairwise while the tasks join, so no two threads write the same array
+    public static int[] decryptMatrix(IntMatrix matrix, ForkJoinPool pool) {
+        int band = bandRows(matrix.rows(), matrix.cols(), pool.getParallelism());
+        int[] colSums = pool.invoke(new ColumnSumTask(matrix, 0, matrix.rows(), band));
+        return LabTask3_Optimized.differences(colSums);
+    }
+
+    //Runs action on every tile of a rows x cols grid
+    static void forEachTile(int rows, int cols, ForkJoinPool pool, TileAction action) {
+        Tiles tiles = new Tiles(rows, cols);
+        if (tiles.count > 0) {
+            pool.invoke(new TileTask(tiles, 0, tiles.count, action));
+        }
+    }
+
+    static int sumOverTiles(int rows, int cols, ForkJoinPool pool, TileSum sum) {
+        Tiles tiles = new Tiles(rows, cols);
+        return tiles.count == 0 ? 0 : pool.invoke(new TileSumTask(tiles, 0, tiles.count, sum));
+    }
+
+    //rows per ColumnSumTask leaf: enough bands to keep every worker busy (4 per
+    //worker), but not so many that the partial arrays cost more than the rows
+    static int bandRows(int rows, int cols, int parallelism) {
+        int minRows = Math.max(1, TILE_CELLS / Math.max(cols, 1));
+        return Math.max(minRows, rows / (4 * parallelism) + 1);
+    }
+
+    //How a grid is cut into tiles, tile t is at tile row t / across, tile column t % across
+    private static final class Tiles {
+        final int rows, cols, tileRows, tileCols, across, count;
+
+        Tiles(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+            this.tileCols = Math.max(1, Math.min(cols, MAX_TILE_COLS));
+            this.tileRows = Math.max(1, TILE_CELLS / tileCols);
+            this.across = (cols + tileCols - 1) / tileCols;
+            int down = (rows + tileRows - 1) / tileRows;
+            this.count = cols == 0 ? 0 : across * down;
+        }
+
+        void run(int t, TileAction action) {
+            int r0 = (t / across) * tileRows, c0 = (t % across) * tileCols;
+            action.run(r0, Math.min(rows, r0 + tileRows), c0, Math.min(cols, c0 + tileCols));
+        }
+
+        int sum(int t, TileSum sum) {
+            int r0 = (t / across) * tileRows, c0 = (t % across) * tileCols;
+            return sum.run(r0, Math.min(rows, r0 + tileRows), c0, Math.min(cols, c0 + tileCols));
+        }
+    }
+
+    //Splits the tile range [from, to) in halves down to single tiles
+    private static final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Tiles tiles;
+        private final int from, to;
+        private final TileAction action;
+
+        TileTask(Tiles tiles, int from, int to, TileAction action) {
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                tiles.run(from, action);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TileTask(tiles, from, mid, action),
+                      new TileTask(tiles, mid, to, action));
+        }
+    }
+
+    private static final class TileSumTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final Tiles tiles;
+        private final int from, to;
+        private final TileSum sum;
+
+        TileSumTask(Tiles tiles, int from, int to, TileSum sum) {
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+            this.sum = sum;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from == 1) {
+                return tiles.sum(from, sum);
+            }
+            int mid = (from + to) >>> 1;
+            TileSumTask left = new TileSumTask(tiles, from, mid, sum);
+            left.fork();
+            int right = new TileSumTask(tiles, mid, to, sum).compute();
+            return left.join() + right;
+        }
+    }
+
+    //Column sums of rows [from, to), in a new array
+    private static final class ColumnSumTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final IntMatrix matrix;
+        private final int from, to, band;
+
+        ColumnSumTask(IntMatrix matrix, int from, int to, int band) {
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+            this.band = band;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= band) {
+                int[] colSums = new int[matrix.cols()];
+                LabTask3_Optimized.addColumnSums(matrix, from, to, colSums);
+                return colSums;
+            }
+            int mid = (from + to) >>> 1;
+            ColumnSumTask left = new ColumnSumTask(matrix, from, mid, band);
+            left.fork();
+            int[] sums = new ColumnSumTask(matrix, mid, to, band).compute();
+            int[] leftSums = left.join();
+            for (int c = 0; c < sums.length; c++) {
+                sums[c] += leftSums[c];
+            }
+            return sums;
+        }
+    }
+}
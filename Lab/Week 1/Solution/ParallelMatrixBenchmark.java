@@ -0,0 +1,47 @@
+import java.util.concurrent.ForkJoinPool;
+
+//Scaling of the ParallelMatrix routines with 1, 2, 4, 8 and 16 worker threads,
+//next to the sequential IntMatrix versions, on square grids of about size cells
+//run: java -Xmx4g ParallelMatrixBenchmark [maxSize] [results.json]
+//a 10^4 x 10^4 grid is maxSize 100000000 (400 MB for the grid)
+public class ParallelMatrixBenchmark {
+
+    static final int[] THREADS = {1, 2, 4, 8, 16};
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        System.err.println("cores: " + Runtime.getRuntime().availableProcessors());
+        for (int n : Bench.sizes(args)) {
+            int side = Math.max(2, (int) Math.sqrt(n));
+            int cells = side * side;
+            IntMatrix matrix = grid(side);
+
+            bench.measure("compressMatrix/sequential", cells, cells, size -> () ->
+                    AssgnTask2.compressMatrix(matrix).get(0, 0));
+            bench.measure("playGame/sequential", cells, cells, size -> () ->
+                    AssgnTask3.points(matrix));
+            bench.measure("decryptMatrix/sequential", cells, cells, size -> () ->
+                    LabTask3_Optimized.decryptMatrix(matrix)[0]);
+            for (int threads : THREADS) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                bench.measure("compressMatrix/" + threads + "t", cells, cells, size -> () ->
+                        ParallelMatrix.compressMatrix(matrix, pool).get(0, 0));
+                bench.measure("playGame/" + threads + "t", cells, cells, size -> () ->
+                        ParallelMatrix.points(matrix, pool));
+                bench.measure("decryptMatrix/" + threads + "t", cells, cells, size -> () ->
+                        ParallelMatrix.decryptMatrix(matrix, pool)[0]);
+                pool.shutdown();
+            }
+        }
+        bench.report(args);
+    }
+
+    //same values as MatrixBenchmark.grid, built without the Integer[][] detour
+    static IntMatrix grid(int side) {
+        int[] values = Bench.randomInts(side * side, 22);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.floorMod(values[i], 200);
+        }
+        return new IntMatrix(side, side, side, values);
+    }
+}
@@ -0,0 +1,137 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//Merge sort of an int[] on a ForkJoinPool, built on LabTask1_Optimized.mergeSortedArray
+//the array is split in halves until a piece is at most SORT_THRESHOLD long, those
+//pieces are sorted sequentially and then merged back together level by level.
+//Every level merges between the array and one buffer of the same length (the
+//levels take turns on which one is the source), so no memory is allocated per merge.
+//The merges are parallel too: a big merge is cut in two independent merges around
+//the middle element of the longer input, found in the other input by binary search.
+class ParallelMergeSort {
+
+    //pieces up to this length are sorted on one thread
+    static final int SORT_THRESHOLD = 1 << 13;
+    //merges up to this many elements are done on one thread
+    static final int MERGE_THRESHOLD = 1 << 13;
+
+    public static void sort(int[] arr) {
+        sort(arr, ForkJoinPool.commonPool());
+    }
+
+    public static void sort(int[] arr, ForkJoinPool pool) {
+        if (arr.length <= SORT_THRESHOLD) {
+            Arrays.sort(arr);
+            return;
+        }
+        sort(arr, new int[arr.length], pool);
+    }
+
+    //buf must be at least as long as arr, its contents are overwritten
+    //pass the same buf every time to sort many arrays without allocating
+    public static void sort(int[] arr, int[] buf, ForkJoinPool pool) {
+        if (buf.length < arr.length) {
+            throw new IllegalArgumentException("buffer is shorter than the array");
+        }
+        pool.invoke(new SortTask(arr, buf, 0, arr.length, false));
+    }
+
+    //Sorts arr[from..to), the result ends up in buf[from..to) if intoBuf,
+    //otherwise in arr[from..to)
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr, buf;
+        private final int from, to;
+        private final boolean intoBuf;
+
+        SortTask(int[] arr, int[] buf, int from, int to, boolean intoBuf) {
+            this.arr = arr;
+            this.buf = buf;
+            this.from = from;
+            this.to = to;
+            this.intoBuf = intoBuf;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SORT_THRESHOLD) {
+                Arrays.sort(arr, from, to);
+                if (intoBuf) {
+                    System.arraycopy(arr, from, buf, from, to - from);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            // the halves go to the other array, so merging them lands in the right one
+            invokeAll(new SortTask(arr, buf, from, mid, !intoBuf),
+                      new SortTask(arr, buf, mid, to, !intoBuf));
+            int[] src = intoBuf ? arr : buf;
+            int[] dst = intoBuf ? buf : arr;
+            new MergeTask(src, from, mid, mid, to, dst, from).compute();
+        }
+    }
+
+    //Merges the sorted src[aFrom..aTo) and src[bFrom..bTo) into dst from dstFrom
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src, dst;
+        private final int aFrom, aTo, bFrom, bTo, dstFrom;
+
+        MergeTask(int[] src, int aFrom, int aTo, int bFrom, int bTo, int[] dst, int dstFrom) {
+            this.src = src;
+            this.aFrom = aFrom;
+            this.aTo = aTo;
+            this.bFrom = bFrom;
+            this.bTo = bTo;
+            this.dst = dst;
+            this.dstFrom = dstFrom;
+        }
+
+        @Override
+        protected void compute() {
+            int aLen = aTo - aFrom, bLen = bTo - bFrom;
+            if (aLen + bLen <= MERGE_THRESHOLD) {
+                LabTask1_Optimized.mergeSortedArray(src, aFrom, aTo, src, bFrom, bTo, dst, dstFrom);
+                return;
+            }
+            // split the longer input in the middle and find where its middle element
+            // goes in the other one, everything left of both cuts is <= everything right.
+            // a's elements go first on ties, so equal b elements stay right of an a cut
+            // and equal a elements stay left of a b cut
+            int aMid, bMid;
+            if (aLen >= bLen) {
+                aMid = (aFrom + aTo) >>> 1;
+                bMid = lowerBound(src, bFrom, bTo, src[aMid]);
+            } else {
+                bMid = (bFrom + bTo) >>> 1;
+                aMid = upperBound(src, aFrom, aTo, src[bMid]);
+            }
+            int rightFrom = dstFrom + (aMid - aFrom) + (bMid - bFrom);
+            invokeAll(new MergeTask(src, aFrom, aMid, bFrom, bMid, dst, dstFrom),
+                      new MergeTask(src, aMid, aTo, bMid, bTo, dst, rightFrom));
+        }
+    }
+
+    //first index in a[from..to) whose element is >= key
+    static int lowerBound(int[] a, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (a[mid] < key) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    //first index in a[from..to) whose element is > key
+    static int upperBound(int[] a, int from, int to, int key) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (a[mid] <= key) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+}
@@ -0,0 +1,49 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+//Scaling of ParallelMergeSort with 1, 2, 4, 8 and 16 worker threads,
+//next to Arrays.sort and Arrays.parallelSort
+//run: java -Xmx4g ParallelMergeSortBenchmark [maxSize] [results.json]
+//10^8 elements need about 1.6 GB (input, copy, array and buffer)
+//the thread counts above the number of cores are still run, they show the overhead
+public class ParallelMergeSortBenchmark {
+
+    static final int[] THREADS = {1, 2, 4, 8, 16};
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        System.err.println("cores: " + Runtime.getRuntime().availableProcessors());
+        for (int n : Bench.sizes(args)) {
+            int[] input = Bench.randomInts(n, 19);
+            int[] arr = new int[n];
+            int[] buf = new int[n];
+            // the copy into arr happens in the untimed setup part
+            bench.measure("Arrays.sort", n, n, size -> {
+                System.arraycopy(input, 0, arr, 0, size);
+                return () -> {
+                    Arrays.sort(arr);
+                    return arr[size / 2];
+                };
+            });
+            bench.measure("Arrays.parallelSort", n, n, size -> {
+                System.arraycopy(input, 0, arr, 0, size);
+                return () -> {
+                    Arrays.parallelSort(arr);
+                    return arr[size / 2];
+                };
+            });
+            for (int threads : THREADS) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                bench.measure("ParallelMergeSort/" + threads + "t", n, n, size -> {
+                    System.arraycopy(input, 0, arr, 0, size);
+                    return () -> {
+                        ParallelMergeSort.sort(arr, buf, pool);
+                        return arr[size / 2];
+                    };
+                });
+                pool.shutdown();
+            }
+        }
+        bench.report(args);
+    }
+}
@@ -0,0 +1,126 @@
+//k x k pooling over grids kept in one row-major int[] or float[] (see IntMatrix)
+//output cell (i, j) reduces the window whose top left corner is (i * stride, j * stride),
+//windows that would stick out of the grid are dropped, like compressMatrix drops an
+//odd last row or column. compressMatrix is pool(matrix, 2, 2, Reduction.SUM).
+//
+//Each output row is done in two steps: first the k input rows are combined column
+//by column into one row buffer (acc[c] = acc[c] + in[c], or max), then each window
+//is reduced along that buffer. The first step is a plain loop over contiguous memory,
+//which the JIT turns into SIMD instructions by itself, and it touches every input
+//cell exactly once. The int sums wrap on overflow, the same as compressMatrix.
+class Pooling {
+
+    public enum Reduction { SUM, MAX, MEAN }
+
+    // number of windows that fit along a side of length n
+    public static int outputLength(int n, int k, int stride) {
+        return n < k ? 0 : (n - k) / stride + 1;
+    }
+
+    public static IntMatrix pool(IntMatrix in, int k, int stride, Reduction reduction) {
+        int outRows = outputLength(in.rows(), k, stride);
+        int outCols = outputLength(in.cols(), k, stride);
+        int[] out = pool(in.data(), in.rows(), in.cols(), in.stride(), k, stride, reduction);
+        return new IntMatrix(outRows, outCols, outCols, out);
+    }
+
+    // in holds a rows x cols grid, cell (r, c) at in[r * rowStride + c]
+    // the result is row-major with outputLength(cols, k, stride) columns
+    // MEAN rounds down (floor of sum / (k * k)), use the float[] version for exact means
+    public static int[] pool(int[] in, int rows, int cols, int rowStride,
+                             int k, int stride, Reduction reduction) {
+        checkArgs(k, stride);
+        int outRows = outputLength(rows, k, stride);
+        int outCols = outputLength(cols, k, stride);
+        int[] out = new int[outRows * outCols];
+        int[] acc = new int[cols];
+        boolean max = reduction == Reduction.MAX;
+        int area = k * k;
+
+        for (int i = 0; i < outRows; i++) {
+            int first = i * stride * rowStride;
+            System.arraycopy(in, first, acc, 0, cols);
+            for (int r = 1; r < k; r++) {
+                int base = first + r * rowStride;
+                if (max) {
+                    for (int c = 0; c < cols; c++) acc[c] = Math.max(acc[c], in[base + c]);
+                } else {
+                    for (int c = 0; c < cols; c++) acc[c] += in[base + c];
+                }
+            }
+            int o = i * outCols;
+            if (k == 2 && !max) {
+                // the common 2x2 case without the inner window loop
+                for (int j = 0, c0 = 0; j < outCols; j++, c0 += stride) {
+                    out[o + j] = acc[c0] + acc[c0 + 1];
+                }
+            } else {
+                for (int j = 0, c0 = 0; j < outCols; j++, c0 += stride) {
+                    int v = acc[c0];
+                    if (max) {
+                        for (int c = c0 + 1; c < c0 + k; c++) v = Math.max(v, acc[c]);
+                    } else {
+                        for (int c = c0 + 1; c < c0 + k; c++) v += acc[c];
+                    }
+                    out[o + j] = v;
+                }
+            }
+            if (reduction == Reduction.MEAN) {
+                for (int j = o; j < o + outCols; j++) out[j] = Math.floorDiv(out[j], area);
+            }
+        }
+        return out;
+    }
+
+    // Same as the int[] version on floats, MEAN is sum / (k * k)
+    public static float[] pool(float[] in, int rows, int cols, int rowStride,
+                               int k, int stride, Reduction reduction) {
+        checkArgs(k, stride);
+        int outRows = outputLength(rows, k, stride);
+        int outCols = outputLength(cols, k, stride);
+        float[] out = new float[outRows * outCols];
+        float[] acc = new float[cols];
+        boolean max = reduction == Reduction.MAX;
+        boolean mean = reduction == Reduction.MEAN;
+        float area = k * k;
+
+        for (int i = 0; i < outRows; i++) {
+            int first = i * stride * rowStride;
+            System.arraycopy(in, first, acc, 0, cols);
+            for (int r = 1; r < k; r++) {
+                int base = first + r * rowStride;
+                if (max) {
+                    for (int c = 0; c < cols; c++) acc[c] = Math.max(acc[c], in[base + c]);
+                } else {
+                    for (int c = 0; c < cols; c++) acc[c] += in[base + c];
+                }
+            }
+            int o = i * outCols;
+            if (k == 2 && !max) {
+                for (int j = 0, c0 = 0; j < outCols; j++, c0 += stride) {
+                    out[o + j] = acc[c0] + acc[c0 + 1];
+                }
+            } else {
+                for (int j = 0, c0 = 0; j < outCols; j++, c0 += stride) {
+                    float v = acc[c0];
+                    if (max) {
+                        for (int c = c0 + 1; c < c0 + k; c++) v = Math.max(v, acc[c]);
+                    } else {
+                        for (int c = c0 + 1; c < c0 + k; c++) v += acc[c];
+                    }
+                    out[o + j] = v;
+                }
+            }
+            if (mean) {
+                for (int j = o; j < o + outCols; j++) out[j] /= area;
+            }
+        }
+        return out;
+    }
+
+    private static void checkArgs(int k, int stride) {
+        if (k < 1 || stride < 1) {
+            throw new IllegalArgumentException("window size and stride must be positive");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+//Throughput of Pooling against compressMatrix on square grids of about size cells
+//run: java PoolingBenchmark [maxSize] [results.json]
+public class PoolingBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        for (int n : Bench.sizes(args)) {
+            int side = Math.max(4, (int) Math.sqrt(n));
+            int cells = side * side;
+            Integer[][] boxed = MatrixBenchmark.grid(side);
+            IntMatrix matrix = IntMatrix.of(boxed);
+            float[] floats = new float[cells];
+            for (int i = 0; i < cells; i++) floats[i] = matrix.data()[i];
+
+            bench.measure("compressMatrix/Integer[][]", cells, cells, size -> () ->
+                    AssgnTask2.compressMatrix(boxed)[0][0]);
+            bench.measure("compressMatrix/IntMatrix", cells, cells, size -> () ->
+                    AssgnTask2.compressMatrix(matrix).get(0, 0));
+            bench.measure("Pooling int 2x2/2 SUM", cells, cells, size -> () ->
+                    Pooling.pool(matrix, 2, 2, Pooling.Reduction.SUM).get(0, 0));
+            bench.measure("Pooling int 2x2/2 MAX", cells, cells, size -> () ->
+                    Pooling.pool(matrix, 2, 2, Pooling.Reduction.MAX).get(0, 0));
+            bench.measure("Pooling int 3x3/1 MEAN", cells, cells, size -> () ->
+                    Pooling.pool(matrix, 3, 1, Pooling.Reduction.MEAN).get(0, 0));
+            bench.measure("Pooling float 2x2/2 SUM", cells, cells, size -> () ->
+                    (long) Pooling.pool(floats, side, side, side, 2, 2, Pooling.Reduction.SUM)[0]);
+            bench.measure("Pooling float 4x4/4 MEAN", cells, cells, size -> () ->
+                    (long) Pooling.pool(floats, side, side, side, 4, 4, Pooling.Reduction.MEAN)[0]);
+        }
+        bench.report(args);
+    }
+}
@@ -0,0 +1,85 @@
+//Checks Pooling against AssgnTask2.compressMatrix and against a plain
+//window by window reduction, on random grids of many shapes
+public class PoolingTester {
+
+    public static void main(String[] args) {
+        int[] seedSource = Bench.randomInts(4096, 23);
+        int next = 0;
+        int checked = 0;
+
+        for (int rows = 2; rows <= 17; rows++) {
+            for (int cols = 2; cols <= 17; cols++) {
+                Integer[][] grid = new Integer[rows][cols];
+                for (int r = 0; r < rows; r++) {
+                    for (int c = 0; c < cols; c++) {
+                        grid[r][c] = seedSource[next++ % seedSource.length] % 1000;
+                    }
+                }
+                IntMatrix matrix = IntMatrix.of(grid);
+
+                // 2x2 sum pooling with stride 2 has to give exactly compressMatrix
+                Integer[][] expected = AssgnTask2.compressMatrix(grid);
+                Integer[][] pooled = Pooling.pool(matrix, 2, 2, Pooling.Reduction.SUM).toIntegerArray();
+                if (!sameCells(expected, pooled)) {
+                    throw new AssertionError("compressMatrix mismatch on a " + rows + "x" + cols + " grid");
+                }
+
+                for (int k = 1; k <= 4; k++) {
+                    for (int stride = 1; stride <= 3; stride++) {
+                        for (Pooling.Reduction reduction : Pooling.Reduction.values()) {
+                            if (!matchesNaive(matrix, k, stride, reduction)) {
+                                throw new AssertionError(reduction + " mismatch, k=" + k + ", stride=" + stride
+                                        + " on a " + rows + "x" + cols + " grid");
+                            }
+                            checked++;
+                        }
+                    }
+                }
+            }
+        }
+        System.out.println("Expected Output:\nAll pooling results match");
+        System.out.println("\nYour Output:\nAll pooling results match (" + checked + " cases)");
+    }
+
+    // compares the int and float versions with a reduction done window by window
+    static boolean matchesNaive(IntMatrix m, int k, int stride, Pooling.Reduction reduction) {
+        int outRows = Pooling.outputLength(m.rows(), k, stride);
+        int outCols = Pooling.outputLength(m.cols(), k, stride);
+        int[] ints = Pooling.pool(m.data(), m.rows(), m.cols(), m.stride(), k, stride, reduction);
+        float[] asFloats = new float[m.data().length];
+        for (int i = 0; i < asFloats.length; i++) asFloats[i] = m.data()[i];
+        float[] floats = Pooling.pool(asFloats, m.rows(), m.cols(), m.stride(), k, stride, reduction);
+        if (ints.length != outRows * outCols || floats.length != ints.length) {
+            return false;
+        }
+        for (int i = 0; i < outRows; i++) {
+            for (int j = 0; j < outCols; j++) {
+                long sum = 0;
+                int max = Integer.MIN_VALUE;
+                for (int r = i * stride; r < i * stride + k; r++) {
+                    for (int c = j * stride; c < j * stride + k; c++) {
+                        sum += m.get(r, c);
+                        max = Math.max(max, m.get(r, c));
+                    }
+                }
+                long expected = reduction == Pooling.Reduction.SUM ? sum
+                        : reduction == Pooling.Reduction.MAX ? max
+                        : Math.floorDiv(sum, (long) k * k);
+                double expectedFloat = reduction == Pooling.Reduction.MEAN ? (double) sum / (k * k) : expected;
+                if (ints[i * outCols + j] != expected
+                        || Math.abs(floats[i * outCols + j] - expectedFloat) > 1e-3) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static boolean sameCells(Integer[][] a, Integer[][] b) {
+        if (a.length != b.length) return false;
+        for (int r = 0; r < a.length; r++) {
+            if (!java.util.Arrays.equals(a[r], b[r])) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,110 @@
+import java.util.HashMap;
+
+//Seat plan that is rotated week after week without moving any rows
+//the rows stay where they are and only `offset` changes, logical row r is
+//stored at rows[(r + offset) % rows.length], so rotating is O(1).
+//A map from seat label to stored row makes rowOf() O(1) as well,
+//the labels are expected to be unique (with duplicates the last one wins).
+class RotatedSeatPlan {
+
+    private final String[][] seats;
+    private final HashMap<String, Integer> rowOfLabel = new HashMap<>();
+    // stored index of logical row 0
+    private int offset;
+
+    // seats is used as it is, not copied, and the rows are never moved
+    public RotatedSeatPlan(String[][] seats) {
+        this.seats = seats;
+        for (int r = 0; r < seats.length; r++) {
+            for (String label : seats[r]) {
+                if (label != null) {
+                    rowOfLabel.put(label, r);
+                }
+            }
+        }
+    }
+
+    // Rotates down by k rows: the last k rows come to the top
+    public void rotateDown(int k) {
+        offset = Math.floorMod(offset - k, seats.length);
+    }
+
+    // Shows the plan as AssgnTask1.rowRotation would leave the original for this week
+    public void setExamWeek(int examWeek) {
+        offset = Math.floorMod(-AssgnTask1.rotationShift(examWeek, seats.length), seats.length);
+    }
+
+    public int rows() {
+        return seats.length;
+    }
+
+    // the row shown at position r (0 is the top), not a copy
+    public String[] row(int r) {
+        return seats[(r + offset) % seats.length];
+    }
+
+    public String get(int r, int c) {
+        return row(r)[c];
+    }
+
+    public void set(int r, int c, String label) {
+        String[] row = row(r);
+        if (row[c] != null) {
+            rowOfLabel.remove(row[c]);
+        }
+        row[c] = label;
+        if (label != null) {
+            rowOfLabel.put(label, (r + offset) % seats.length);
+        }
+    }
+
+    // 0-based position of the row the seat is shown in, or -1 if there is no such seat
+    public int rowOf(String label) {
+        Integer stored = rowOfLabel.get(label);
+        if (stored == null) {
+            return -1;
+        }
+        return Math.floorMod(stored - offset, seats.length);
+    }
+
+    public void print() {
+        String[][] shown = new String[seats.length][];
+        for (int r = 0; r < seats.length; r++) {
+            shown[r] = row(r);
+        }
+        Arr.print2D(shown);
+    }
+
+    public static void main(String[] args) {
+        String[][] seatStatus = {
+                { "A", "B", "C", "D", "E" },
+                { "F", "G", "H", "I", "J" },
+                { "K", "L", "M", "N", "O" },
+                { "P", "Q", "R", "S", "T" },
+                { "U", "V", "W", "X", "Y" },
+                { "Z", "AA", "BB", "CC", "DD" }
+        };
+        RotatedSeatPlan plan = new RotatedSeatPlan(seatStatus);
+
+        System.out.println("Expected Output:");
+        System.out.println("| U  | V  | W  | X  | Y  | ");
+        System.out.println("| Z  | AA | BB | CC | DD | ");
+        System.out.println("| A  | B  | C  | D  | E  | ");
+        System.out.println("| F  | G  | H  | I  | J  | ");
+        System.out.println("| K  | L  | M  | N  | O  | ");
+        System.out.println("| P  | Q  | R  | S  | T  | ");
+        System.out.println("Your friend AA will be on row 2");
+
+        System.out.print("\nYour Output:\n");
+        plan.setExamWeek(3);
+        plan.print();
+        System.out.println("Your friend AA will be on row " + (plan.rowOf("AA") + 1));
+
+        System.out.print("\n======================\n");
+        System.out.println("\nExpected Output:");
+        System.out.println("Next week AA will be on row 3");
+        System.out.print("\nYour Output:\n");
+        plan.rotateDown(1);
+        System.out.println("Next week AA will be on row " + (plan.rowOf("AA") + 1));
+    }
+}
@@ -0,0 +1,98 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+//Small timing harness shared by the *Benchmark classes of this folder
+//every measurement warms the JIT up first, then times fresh runs of the task
+//and records nanoseconds and bytes allocated per operation
+//the results are printed as a JSON array so two commits can be diffed
+public class Bench {
+
+    //Builds a fresh task of the given size, this part is not timed
+    public interface Setup {
+        Task prepare(int size);
+    }
+
+    //The timed part, returns any number computed from the work
+    //so the JIT cannot throw the work away
+    public interface Task {
+        long run();
+    }
+
+    private static final long WARMUP_NANOS = 300_000_000L;
+    private static final long MEASURE_NANOS = 700_000_000L;
+    private static final int MIN_RUNS = 3;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final List<String> results = new ArrayList<>();
+    private long sink;
+
+    //Times setup.prepare(size).run(), which performs opsPerRun operations
+    public void measure(String name, int size, long opsPerRun, Setup setup) {
+        long end = System.nanoTime() + WARMUP_NANOS;
+        do {
+            sink += setup.prepare(size).run();
+        } while (System.nanoTime() < end);
+
+        long totalNanos = 0, totalBytes = 0, best = Long.MAX_VALUE;
+        int runs = 0;
+        long tid = Thread.currentThread().getId();
+        end = System.nanoTime() + MEASURE_NANOS;
+        while (runs < MIN_RUNS || System.nanoTime() < end) {
+            Task task = setup.prepare(size);
+            long bytes = THREADS.getThreadAllocatedBytes(tid);
+            long start = System.nanoTime();
+            sink += task.run();
+            long nanos = System.nanoTime() - start;
+            totalBytes += THREADS.getThreadAllocatedBytes(tid) - bytes;
+            totalNanos += nanos;
+            best = Math.min(best, nanos);
+            runs++;
+        }
+        double nsPerOp = (double) totalNanos / runs / opsPerRun;
+        double bestNsPerOp = (double) best / opsPerRun;
+        double bytesPerOp = (double) totalBytes / runs / opsPerRun;
+        System.err.printf("%-32s n=%-9d %12.2f ns/op %10.2f B/op (%d runs)%n",
+                name, size, nsPerOp, bytesPerOp, runs);
+        results.add(String.format(
+                "{\"benchmark\": \"%s\", \"size\": %d, \"runs\": %d, \"nsPerOp\": %.3f, \"bestNsPerOp\": %.3f, \"bytesPerOp\": %.3f}",
+                name, size, runs, nsPerOp, bestNsPerOp, bytesPerOp));
+    }
+
+    //Prints the JSON results to the file named in args[1], or to System.out
+    public void report(String[] args) throws IOException {
+        PrintStream out = args.length > 1 ? new PrintStream(args[1]) : System.out;
+        out.println("[");
+        for (int i = 0; i < results.size(); i++) {
+            out.println("  " + results.get(i) + (i + 1 < results.size() ? "," : ""));
+        }
+        out.println("]");
+        if (out != System.out) out.close();
+        if (sink == 42) System.err.println();
+    }
+
+    //Sizes 10, 100, ... up to args[0] (default 10^7)
+    public static int[] sizes(String[] args) {
+        int max = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        List<Integer> sizes = new ArrayList<>();
+        for (int n = 10; n <= max && n > 0; n *= 10) sizes.add(n);
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    //The same pseudo random ints every run, so runs stay comparable
+    public static int[] randomInts(int size, long seed) {
+        int[] a = new int[size];
+        long x = seed | 1;
+        for (int i = 0; i < size; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+            a[i] = (int) x;
+        }
+        return a;
+    }
+}
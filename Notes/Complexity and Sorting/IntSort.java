@@ -0,0 +1,241 @@
+// Sorting for large int[] arrays
+// sort() looks at the size and how presorted the input is and picks one of:
+//   insertionSort      - tiny arrays, O(n^2) but very little overhead
+//   mergeSort          - stable natural merge sort (TimSort style runs), close to O(n)
+//                        when the input is made of a few sorted runs
+//   dualPivotQuicksort - general purpose O(n log n) on average
+//   radixSort          - LSD radix sort on 8 bit digits, O(n) for 32 bit keys
+// every method can also be called directly, SortBenchmark compares them
+public class IntSort {
+
+    // below this many elements insertion sort is the fastest
+    static final int INSERTION_THRESHOLD = 48;
+    // from this many elements radix sort beats quicksort on unsorted input
+    static final int RADIX_THRESHOLD = 1 << 14;
+    // runs shorter than this are extended with insertion sort before merging
+    static final int MIN_RUN = 32;
+    // the input counts as presorted when it has at most n / PRESORTED_RATIO runs
+    static final int PRESORTED_RATIO = 128;
+
+    // Auto selecting sort
+    public static void sort(int[] a) {
+        int n = a.length;
+        if (n < INSERTION_THRESHOLD) {
+            insertionSort(a, 0, n);
+        } else if (countRuns(a, n / PRESORTED_RATIO) <= n / PRESORTED_RATIO) {
+            mergeSort(a);
+        } else if (n >= RADIX_THRESHOLD) {
+            radixSort(a);
+        } else {
+            dualPivotQuicksort(a);
+        }
+    }
+
+    // number of ascending runs in a, counting stops once it goes above limit
+    static int countRuns(int[] a, int limit) {
+        int runs = 1;
+        for (int i = 1; i < a.length && runs <= limit; i++) {
+            if (a[i - 1] > a[i]) runs++;
+        }
+        return runs;
+    }
+
+    // Insertion sort of a[lo..hi)
+    public static void insertionSort(int[] a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            int key = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > key) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = key;
+        }
+    }
+
+    // ========== Dual pivot quicksort ==========
+
+    public static void dualPivotQuicksort(int[] a) {
+        // after this many levels the input is treated as adversarial and the
+        // remaining range is heap sorted, so the worst case stays O(n log n)
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(a.length));
+        dualPivotQuicksort(a, 0, a.length - 1, depthLimit);
+    }
+
+    // sorts a[left..right], both inclusive
+    private static void dualPivotQuicksort(int[] a, int left, int right, int depthLimit) {
+        while (right - left + 1 >= INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, left, right + 1);
+                return;
+            }
+            // the pivots are the elements at one and two thirds of the range
+            int third = (right - left) / 3;
+            int m1 = left + third, m2 = right - third;
+            if (a[m1] > a[m2]) swap(a, m1, m2);
+            swap(a, m1, left);
+            swap(a, m2, right);
+            int p = a[left], q = a[right];
+
+            // a[left+1..lt) < p, a[lt..k) in [p, q], a(gt..right-1] > q
+            int lt = left + 1, gt = right - 1;
+            for (int k = lt; k <= gt; k++) {
+                if (a[k] < p) {
+                    swap(a, k, lt++);
+                } else if (a[k] > q) {
+                    while (a[gt] > q && k < gt) gt--;
+                    swap(a, k, gt--);
+                    if (a[k] < p) swap(a, k, lt++);
+                }
+            }
+            lt--;
+            gt++;
+            swap(a, left, lt);
+            swap(a, right, gt);
+
+            dualPivotQuicksort(a, left, lt - 1, depthLimit);
+            if (p < q) {
+                dualPivotQuicksort(a, lt + 1, gt - 1, depthLimit);
+            }
+            // the part above q is sorted by the loop instead of another call
+            left = gt + 1;
+        }
+        insertionSort(a, left, right + 1);
+    }
+
+    // Heap sort of a[lo..hi), only used when quicksort goes too deep
+    private static void heapSort(int[] a, int lo, int hi) {
+        int n = hi - lo;
+        for (int i = n / 2 - 1; i >= 0; i--) siftDown(a, lo, i, n);
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, lo, lo + end);
+            siftDown(a, lo, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] a, int lo, int i, int n) {
+        int v = a[lo + i];
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && a[lo + child + 1] > a[lo + child]) child++;
+            if (a[lo + child] <= v) break;
+            a[lo + i] = a[lo + child];
+            i = child;
+        }
+        a[lo + i] = v;
+    }
+
+    // ========== Natural merge sort ==========
+
+    // Stable merge sort that reuses the sorted runs already in the input
+    // strictly descending runs are reversed (that keeps it stable), runs shorter
+    // than MIN_RUN are extended with insertion sort, then neighbouring runs are
+    // merged pairwise until one run is left
+    public static void mergeSort(int[] a) {
+        int n = a.length;
+        if (n < 2) {
+            return;
+        }
+        int[] runStart = new int[n / MIN_RUN + 2];
+        int runs = 0;
+        int lo = 0;
+        while (lo < n) {
+            int hi = lo + 1;
+            if (hi < n && a[hi] < a[lo]) {
+                while (hi < n && a[hi] < a[hi - 1]) hi++;
+                reverse(a, lo, hi);
+            } else {
+                while (hi < n && a[hi] >= a[hi - 1]) hi++;
+            }
+            if (hi - lo < MIN_RUN) {
+                int end = Math.min(n, lo + MIN_RUN);
+                insertionSort(a, lo, end);
+                hi = end;
+            }
+            runStart[runs++] = lo;
+            lo = hi;
+        }
+        runStart[runs] = n;
+
+        int[] buf = new int[n / 2 + 1];
+        while (runs > 1) {
+            int merged = 0;
+            for (int r = 0; r < runs; r += 2) {
+                if (r + 1 < runs) {
+                    merge(a, runStart[r], runStart[r + 1], runStart[r + 2], buf);
+                }
+                runStart[merged++] = runStart[r];
+            }
+            runStart[merged] = n;
+            runs = merged;
+        }
+    }
+
+    // merges the sorted a[lo..mid) and a[mid..hi), taking from the left run on ties
+    private static void merge(int[] a, int lo, int mid, int hi, int[] buf) {
+        if (a[mid - 1] <= a[mid]) {
+            return; // already in order
+        }
+        // skip the prefix of the left run that is already in place
+        while (a[lo] <= a[mid]) lo++;
+        int leftLen = mid - lo;
+        if (buf.length < leftLen) {
+            buf = new int[leftLen];
+        }
+        System.arraycopy(a, lo, buf, 0, leftLen);
+        int i = 0, j = mid, k = lo;
+        while (i < leftLen && j < hi) {
+            a[k++] = buf[i] <= a[j] ? buf[i++] : a[j++];
+        }
+        System.arraycopy(buf, i, a, k, leftLen - i);
+    }
+
+    private static void reverse(int[] a, int lo, int hi) {
+        for (int i = lo, j = hi - 1; i < j; i++, j--) swap(a, i, j);
+    }
+
+    // ========== LSD radix sort ==========
+
+    // Sorts on one byte at a time, lowest byte first, with a counting pass per byte
+    // the sign bit of the top byte is flipped so negative numbers come first
+    // a pass is skipped when every element has the same byte there
+    public static void radixSort(int[] a) {
+        int n = a.length;
+        if (n < 2) {
+            return;
+        }
+        int[] src = a, dst = new int[n];
+        int[] count = new int[256];
+        for (int shift = 0; shift < 32; shift += 8) {
+            int flip = shift == 24 ? 0x80 : 0;
+            java.util.Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[((src[i] >>> shift) & 0xFF) ^ flip]++;
+            }
+            if (count[((src[0] >>> shift) & 0xFF) ^ flip] == n) {
+                continue;
+            }
+            for (int b = 0, sum = 0; b < 256; b++) {
+                int c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int v = src[i];
+                dst[count[((v >>> shift) & 0xFF) ^ flip]++] = v;
+            }
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+}
@@ -34,7 +34,19 @@ public class Sort {
     }
 
     //insert sort function
-    
+    static void insertionSort(int arr[]) {
+        int n = arr.length;
+        for (int i = 1; i < n; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= 0 && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
 
     public static void main(String[] args) {
 
@@ -60,5 +72,13 @@ public class Sort {
         System.out.println("========== End of Selection Sort ==========");
         System.out.println();
 
+        // Insertion Sort
+        int[] insertionArr = Arrays.copyOf(arr, arr.length);
+        System.out.println("========== Insertion Sort ==========");
+        insertionSort(insertionArr);
+        System.out.printf("%-15s: %s\n", "Sorted array", Arrays.toString(insertionArr));
+        System.out.println("========== End of Insertion Sort ==========");
+        System.out.println();
+
     }
 }
\ No newline at end of file
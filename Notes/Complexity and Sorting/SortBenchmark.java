@@ -0,0 +1,58 @@
+import java.util.Arrays;
+
+//Benchmarks Sort.bubbleSort(), Sort.selectionSort(), Sort.insertionSort() and the
+//IntSort algorithms against Arrays.sort on int[] inputs
+//run: java SortBenchmark [maxSize] [results.json]
+//the O(n^2) sorts stop at QUADRATIC_LIMIT elements
+//every size is run on random input and on "presorted" input (sorted, with 1% of
+//the elements overwritten by random values), which is where mergeSort should win
+public class SortBenchmark {
+
+    static final int QUADRATIC_LIMIT = 100_000;
+
+    interface IntArraySort {
+        void sort(int[] arr);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Bench bench = new Bench();
+        for (int n : Bench.sizes(args)) {
+            int[] input = Bench.randomInts(n, 18);
+            if (n <= QUADRATIC_LIMIT) {
+                measure(bench, "Sort.bubbleSort", input, Sort::bubbleSort);
+                measure(bench, "Sort.selectionSort", input, Sort::selectionSort);
+                measure(bench, "Sort.insertionSort", input, Sort::insertionSort);
+            }
+            int[] presorted = presorted(n);
+            for (String kind : new String[] {"random", "presorted"}) {
+                int[] in = kind.equals("random") ? input : presorted;
+                measure(bench, "IntSort.sort/" + kind, in, IntSort::sort);
+                measure(bench, "IntSort.dualPivotQuicksort/" + kind, in, IntSort::dualPivotQuicksort);
+                measure(bench, "IntSort.mergeSort/" + kind, in, IntSort::mergeSort);
+                measure(bench, "IntSort.radixSort/" + kind, in, IntSort::radixSort);
+                measure(bench, "Arrays.sort/" + kind, in, Arrays::sort);
+            }
+        }
+        bench.report(args);
+    }
+
+    // every run sorts a fresh copy of input, the copy is part of the measured time
+    // for all of them so the numbers stay comparable
+    static void measure(Bench bench, String name, int[] input, IntArraySort sort) {
+        bench.measure(name, input.length, input.length, size -> () -> {
+            int[] arr = Arrays.copyOf(input, size);
+            sort.sort(arr);
+            return arr[size / 2];
+        });
+    }
+
+    static int[] presorted(int n) {
+        int[] arr = Bench.randomInts(n, 19);
+        Arrays.sort(arr);
+        int[] noise = Bench.randomInts(n / 100 * 2 + 2, 20);
+        for (int k = 0; k + 1 < noise.length; k += 2) {
+            arr[Math.floorMod(noise[k], n)] = noise[k + 1];
+        }
+        return arr;
+    }
+}